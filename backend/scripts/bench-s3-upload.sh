@@ -0,0 +1,50 @@
+#!/bin/bash
+# Upload throughput benchmark for S3 storage, e.g. against the MinIO stand-in from docker-compose.dev.yml:
+#   docker compose -f docker-compose.dev.yml --profile s3 up -d minio minio-init
+#   USE_S3=true S3_ENDPOINT=http://localhost:9000 S3_PATH_STYLE_ACCESS=true AWS_ACCESS_KEY=teckiz \
+#     AWS_SECRET_KEY=teckizsecret UPLOAD_MAX_FILE_SIZE=200MB UPLOAD_MAX_REQUEST_SIZE=200MB java -jar target/*.jar
+#   TOKEN=<company admin jwt> METRICS_TOKEN=<super admin jwt> HOST_HEADER=<tenant host> ./scripts/bench-s3-upload.sh
+# Uploads a random file of each size in SIZES_MB through the media upload endpoint, then prints the
+# file.upload.s3.throughput statistics per mode. Compare runs with
+# S3_MULTIPART_ENABLED=false, or with different S3_MULTIPART_PART_SIZE_BYTES and S3_MULTIPART_CONCURRENCY.
+
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+SIZES_MB=${SIZES_MB:-"1 16 64 128"}
+RUNS=${RUNS:-3}
+ENDPOINT=${ENDPOINT:-/website/admin/media/upload}
+METRICS_TOKEN=${METRICS_TOKEN:-$TOKEN}
+
+if [ -z "$TOKEN" ] || [ -z "$HOST_HEADER" ]; then
+    echo "TOKEN and HOST_HEADER must be set"
+    exit 1
+fi
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+for SIZE in $SIZES_MB; do
+    FILE="$WORK_DIR/bench-$SIZE.pdf"
+    head -c "$((SIZE * 1024 * 1024))" /dev/urandom > "$FILE"
+    for RUN in $(seq 1 "$RUNS"); do
+        RESULT=$(curl -s -o /dev/null -w "%{http_code} %{time_total}" -X POST \
+            -H "Authorization: Bearer $TOKEN" \
+            -H "Host: $HOST_HEADER" \
+            -F "file=@$FILE;type=application/pdf" \
+            "$BASE_URL$ENDPOINT")
+        STATUS=${RESULT%% *}
+        SECONDS_TOTAL=${RESULT##* }
+        echo "${SIZE}MB run $RUN: HTTP $STATUS in ${SECONDS_TOTAL}s ($(awk "BEGIN { printf \"%.1f\", $SIZE / $SECONDS_TOTAL }") MB/s end to end)"
+    done
+done
+
+echo
+for MODE in single multipart; do
+    THROUGHPUT=$(curl -s -H "Authorization: Bearer $METRICS_TOKEN" \
+        "$BASE_URL/actuator/metrics/file.upload.s3.throughput?tag=mode:$MODE")
+    COUNT=$(echo "$THROUGHPUT" | sed -n 's/.*"statistic":"COUNT","value":\([0-9.E-]*\).*/\1/p')
+    [ -z "$COUNT" ] && continue
+    MEAN=$(echo "$THROUGHPUT" | sed -n 's/.*"statistic":"TOTAL","value":\([0-9.E-]*\).*/\1/p')
+    MAX=$(echo "$THROUGHPUT" | sed -n 's/.*"statistic":"MAX","value":\([0-9.E-]*\).*/\1/p')
+    echo "$MODE: $COUNT uploads, mean $(awk "BEGIN { printf \"%.1f\", $MEAN / $COUNT / 1048576 }") MB/s," \
+        "best $(awk "BEGIN { printf \"%.1f\", $MAX / 1048576 }") MB/s to S3"
+done
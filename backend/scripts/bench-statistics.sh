@@ -0,0 +1,27 @@
+#!/bin/bash
+# Load benchmark for the statistics ingestion endpoint (POST /admin/statistics)
+# Requires ApacheBench (ab). Run against a running backend:
+#   TOKEN=<jwt> HOST_HEADER=<tenant host> ./scripts/bench-statistics.sh
+# Compare "Requests per second" before and after a change on the same hardware,
+# and check statistics.ingestion.events{result=persisted|dropped} on /actuator/metrics.
+
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+REQUESTS=${REQUESTS:-50000}
+CONCURRENCY=${CONCURRENCY:-100}
+
+if [ -z "$TOKEN" ] || [ -z "$HOST_HEADER" ]; then
+    echo "TOKEN and HOST_HEADER must be set"
+    exit 1
+fi
+
+PAYLOAD=$(mktemp)
+trap 'rm -f "$PAYLOAD"' EXIT
+cat > "$PAYLOAD" <<JSON
+{"statType":"page_view","entityType":"WebNews","entityId":1,"ipAddress":"10.0.0.1","sessionId":"bench","userAgent":"ab"}
+JSON
+
+ab -n "$REQUESTS" -c "$CONCURRENCY" -k \
+    -p "$PAYLOAD" -T "application/json" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H "Host: $HOST_HEADER" \
+    "$BASE_URL/admin/statistics"
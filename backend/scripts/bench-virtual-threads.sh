@@ -0,0 +1,54 @@
+#!/bin/bash
+# Load benchmark comparing platform-thread and virtual-thread serving on the same hardware.
+# Requires ApacheBench (ab). Start the backend in one mode, run this script with the matching
+# MODE, restart it in the other mode against the same database and run it again:
+#   VIRTUAL_THREADS_ENABLED=false java -jar target/*.jar
+#   MODE=platform TOKEN=<super admin jwt> HOST_HEADER=<tenant host> ./scripts/bench-virtual-threads.sh
+#   VIRTUAL_THREADS_ENABLED=true java -jar target/*.jar
+#   MODE=virtual TOKEN=<super admin jwt> HOST_HEADER=<tenant host> ./scripts/bench-virtual-threads.sh
+# Each run appends one line per endpoint (requests/s, p99 ms, failed requests, longest wait for a
+# pooled connection in seconds) to $RESULTS and prints both modes side by side once both have been
+# recorded. Keep DATABASE_POOL_SIZE identical between runs; connection waits close to
+# DATABASE_CONNECTION_TIMEOUT_MS mean the pool was starved. Pinned virtual threads show up as
+# jdk.VirtualThreadPinned events when the backend runs with -XX:StartFlightRecording.
+
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+REQUESTS=${REQUESTS:-20000}
+CONCURRENCY=${CONCURRENCY:-400}
+RESULTS=${RESULTS:-bench-virtual-threads.csv}
+ENDPOINTS=${ENDPOINTS:-"/public/site/bootstrap /public/news /public/events/upcoming /public/journal/articles"}
+
+if [ -z "$MODE" ] || [ -z "$TOKEN" ] || [ -z "$HOST_HEADER" ]; then
+    echo "MODE (platform or virtual), TOKEN and HOST_HEADER must be set"
+    exit 1
+fi
+
+OUTPUT=$(mktemp)
+trap 'rm -f "$OUTPUT"' EXIT
+
+for ENDPOINT in $ENDPOINTS; do
+    # Warm up caches and JIT before measuring
+    ab -q -n 1000 -c 50 -k -H "Host: $HOST_HEADER" "$BASE_URL$ENDPOINT" > /dev/null 2>&1
+
+    ab -q -n "$REQUESTS" -c "$CONCURRENCY" -k -H "Host: $HOST_HEADER" "$BASE_URL$ENDPOINT" > "$OUTPUT" 2>&1
+    RPS=$(sed -n 's/^Requests per second: *\([0-9.]*\).*/\1/p' "$OUTPUT")
+    P99=$(sed -n 's/^ *99% *\([0-9]*\).*/\1/p' "$OUTPUT")
+    FAILED=$(sed -n 's/^Failed requests: *\([0-9]*\).*/\1/p' "$OUTPUT")
+    ACQUIRE=$(curl -s -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/metrics/hikaricp.connections.acquire" \
+        | sed -n 's/.*"statistic":"MAX","value":\([0-9.E-]*\).*/\1/p')
+
+    echo "$MODE,$ENDPOINT,$CONCURRENCY,$RPS,$P99,$FAILED,${ACQUIRE:-n/a}" >> "$RESULTS"
+    echo "$MODE $ENDPOINT: $RPS req/s, p99 ${P99}ms, $FAILED failed, longest connection wait ${ACQUIRE:-n/a}s"
+done
+
+if grep -q '^platform,' "$RESULTS" && grep -q '^virtual,' "$RESULTS"; then
+    echo
+    printf '%-32s %12s %12s %10s %10s\n' "endpoint" "platform/s" "virtual/s" "p99 plat" "p99 virt"
+    for ENDPOINT in $ENDPOINTS; do
+        PLATFORM=$(grep "^platform,$ENDPOINT,$CONCURRENCY," "$RESULTS" | tail -1)
+        VIRTUAL=$(grep "^virtual,$ENDPOINT,$CONCURRENCY," "$RESULTS" | tail -1)
+        printf '%-32s %12s %12s %10s %10s\n' "$ENDPOINT" \
+            "$(echo "$PLATFORM" | cut -d, -f4)" "$(echo "$VIRTUAL" | cut -d, -f4)" \
+            "$(echo "$PLATFORM" | cut -d, -f5)" "$(echo "$VIRTUAL" | cut -d, -f5)"
+    done
+fi
@@ -0,0 +1,38 @@
+#!/bin/bash
+# Fail when an endpoint executes more SQL statements than its budget (N+1 regression guard).
+# Calls the endpoint once, then reads the largest per-request statement count recorded for its
+# handler from http.server.requests.sql.statements on /actuator/metrics. Run against a quiet
+# instance, since the MAX statistic covers every call to the handler in the current window:
+#   TOKEN=<super admin jwt> HOST_HEADER=<tenant host> \
+#   ./scripts/check-sql-budget.sh /public/news publicapi.WebNewsController.listPublishedNews 4
+
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+ENDPOINT=$1
+HANDLER=$2
+MAX_STATEMENTS=$3
+
+if [ -z "$ENDPOINT" ] || [ -z "$HANDLER" ] || [ -z "$MAX_STATEMENTS" ]; then
+    echo "Usage: $0 <endpoint path> <Controller.method> <max statements>"
+    exit 1
+fi
+if [ -z "$TOKEN" ] || [ -z "$HOST_HEADER" ]; then
+    echo "TOKEN and HOST_HEADER must be set"
+    exit 1
+fi
+
+curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" -H "Host: $HOST_HEADER" "$BASE_URL$ENDPOINT"
+
+STATEMENTS=$(curl -s -H "Authorization: Bearer $TOKEN" \
+    "$BASE_URL/actuator/metrics/http.server.requests.sql.statements?tag=handler:$HANDLER" \
+    | sed -n 's/.*"statistic":"MAX","value":\([0-9.]*\).*/\1/p')
+STATEMENTS=${STATEMENTS%.*}
+
+if [ -z "$STATEMENTS" ]; then
+    echo "No SQL statement metrics recorded for $HANDLER"
+    exit 1
+fi
+if [ "$STATEMENTS" -gt "$MAX_STATEMENTS" ]; then
+    echo "FAIL $ENDPOINT ($HANDLER): $STATEMENTS SQL statements, budget $MAX_STATEMENTS"
+    exit 1
+fi
+echo "OK $ENDPOINT ($HANDLER): $STATEMENTS SQL statements, budget $MAX_STATEMENTS"
@@ -1,11 +1,16 @@
 package com.teckiz;
 
+import com.teckiz.repository.NaturalIdJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableJpaRepositories(repositoryBaseClass = NaturalIdJpaRepository.class)
+@EnableScheduling
 public class TeckizApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,115 @@
+package com.teckiz.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache-Control for public GETs from app.http.cache.max-age-seconds, a map of path pattern to
+ * max-age. The most specific matching pattern wins; 0 means no-cache (always revalidate via ETag).
+ * The policy is picked before the handler runs but only applied to 2xx and 304 responses, so
+ * 404s and errors are never cached: bodies get the header just before they are written, when the
+ * status is known and the response is not committed yet, and bodiless responses after the handler.
+ */
+@ControllerAdvice
+public class CacheControlInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final String POLICY_ATTRIBUTE = CacheControlInterceptor.class.getName() + ".policy";
+
+    private final List<Policy> policies = new ArrayList<>();
+
+    public CacheControlInterceptor(Environment environment) {
+        Map<String, Long> maxAges = Binder.get(environment)
+                .bind("app.http.cache.max-age-seconds", Bindable.mapOf(String.class, Long.class))
+                .orElse(Map.of());
+        maxAges.forEach((pattern, seconds) -> policies.add(new Policy(
+                PathPatternParser.defaultInstance.parse(pattern),
+                seconds > 0 ? CacheControl.maxAge(seconds, TimeUnit.SECONDS).cachePublic() : CacheControl.noCache())));
+        policies.sort((a, b) -> PathPattern.SPECIFICITY_COMPARATOR.compare(a.pattern(), b.pattern()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        RequestPath requestPath = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request);
+        PathContainer path = requestPath.pathWithinApplication();
+        for (Policy policy : policies) {
+            if (policy.pattern().matches(path)) {
+                request.setAttribute(POLICY_ATTRIBUTE, policy);
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Responses without a body, e.g. 304 Not Modified from a conditional GET
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (request.getAttribute(POLICY_ATTRIBUTE) instanceof Policy policy && !response.isCommitted()
+                && cacheable(response.getStatus()) && !response.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, policy.cacheControl().getHeaderValue());
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * Responses with a body; the status has been set but nothing is written yet
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletRequest.getServletRequest().getAttribute(POLICY_ATTRIBUTE) instanceof Policy policy
+                && cacheable(servletResponse.getServletResponse().getStatus())
+                && !response.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            // Copied onto the servlet response together with the handler's headers when the body is written
+            response.getHeaders().setCacheControl(policy.cacheControl());
+        }
+        return body;
+    }
+
+    private static boolean cacheable(int status) {
+        return (status >= 200 && status < 300) || status == HttpServletResponse.SC_NOT_MODIFIED;
+    }
+
+    private record Policy(PathPattern pattern, CacheControl cacheControl) {
+    }
+}
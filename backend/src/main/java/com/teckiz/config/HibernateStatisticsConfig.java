@@ -0,0 +1,69 @@
+package com.teckiz.config;
+
+import com.teckiz.util.SqlStatementCounter;
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feeds SqlStatementCounter from Hibernate: statements through a StatementInspector, JDBC time
+ * through a per-session event listener and entity loads through a session factory interceptor.
+ */
+@Configuration
+public class HibernateStatisticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                SqlStatementCounter.recordStatement();
+                return sql;
+            });
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+        };
+    }
+
+    static class EntityLoadInterceptor implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            SqlStatementCounter.recordEntityLoad();
+            return false;
+        }
+    }
+
+    /**
+     * Created by Hibernate for every session, so it must stay public with a no-arg constructor
+     */
+    public static class JdbcTimingListener implements SessionEventListener {
+
+        private long executeStart;
+        private long batchStart;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            SqlStatementCounter.recordExecution(System.nanoTime() - executeStart);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            SqlStatementCounter.recordExecution(System.nanoTime() - batchStart);
+        }
+    }
+}
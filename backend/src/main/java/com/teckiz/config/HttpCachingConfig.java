@@ -0,0 +1,24 @@
+package com.teckiz.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class HttpCachingConfig {
+
+    /**
+     * Weak ETag from a hash of the body for public GETs that do not set their own validators,
+     * so tenant sites re-polling unchanged content get 304 without the body
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> publicEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/public/*");
+        return registration;
+    }
+}
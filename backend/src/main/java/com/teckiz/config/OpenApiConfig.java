@@ -1,5 +1,6 @@
 package com.teckiz.config;
 
+import com.teckiz.service.TenantContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,6 +18,11 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+    static {
+        // Resolved from the request host, not a client supplied parameter
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(TenantContext.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
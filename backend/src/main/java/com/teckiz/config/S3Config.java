@@ -7,7 +7,11 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.net.URI;
 
 @Configuration
 public class S3Config {
@@ -21,19 +25,70 @@ public class S3Config {
     @Value("${app.aws.region:us-east-1}")
     private String region;
 
+    // S3-compatible endpoint such as a local MinIO; blank for AWS
+    @Value("${app.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${app.aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    @Value("${app.aws.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${app.aws.s3.multipart.part-size-bytes:8388608}")
+    private long multipartPartSizeBytes;
+
+    @Value("${app.aws.s3.multipart.concurrency:8}")
+    private int multipartConcurrency;
+
     @Bean
     @ConditionalOnProperty(name = "file.upload.use-s3", havingValue = "true")
     public S3Client s3Client() {
-        if (accessKey == null || accessKey.isEmpty() || secretKey == null || secretKey.isEmpty()) {
-            throw new IllegalStateException("AWS credentials are required when use-s3 is enabled");
+        checkCredentials();
+
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        var builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .forcePathStyle(pathStyleAccess);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
         }
+        return builder.build();
+    }
+
+    /**
+     * Async client used for uploads. Bodies of at least the threshold are sent as multipart uploads
+     * whose parts are uploaded concurrently and retried individually; the in-flight buffer is sized
+     * so that at most app.aws.s3.multipart.concurrency parts are held at once.
+     */
+    @Bean
+    @ConditionalOnProperty(name = {"file.upload.use-s3", "app.aws.s3.multipart.enabled"}, havingValue = "true")
+    public S3AsyncClient s3AsyncClient() {
+        checkCredentials();
 
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        return S3Client.builder()
+        var builder = S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-                .build();
+                .forcePathStyle(pathStyleAccess)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes)
+                        .apiCallBufferSizeInBytes(multipartPartSizeBytes * multipartConcurrency)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
-}
 
+    private void checkCredentials() {
+        if (accessKey == null || accessKey.isEmpty() || secretKey == null || secretKey.isEmpty()) {
+            throw new IllegalStateException("AWS credentials are required when use-s3 is enabled");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.teckiz.config;
+
+import com.teckiz.util.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements, JDBC time and entity loads of each controller call and records
+ * them per handler; calls above the statement threshold are logged as likely N+1 queries.
+ */
+@Slf4j
+@Component
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CONTROLLER_PACKAGE = "com.teckiz.controller.";
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+    private final Map<String, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlStatementMetricsInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql.statement-warn-threshold:25}") long warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlStatementCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The rest of the request runs on another thread; drop the partial tally
+        SqlStatementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        SqlStatementCounter.Snapshot snapshot = SqlStatementCounter.stop();
+        String name = handlerName(handlerMethod);
+
+        HandlerMeters handlerMeters = meters.computeIfAbsent(name, this::registerMeters);
+        handlerMeters.statements().record(snapshot.statements());
+        handlerMeters.jdbcTime().record(snapshot.jdbcNanos(), TimeUnit.NANOSECONDS);
+        handlerMeters.entities().record(snapshot.entitiesLoaded());
+
+        if (snapshot.statements() > warnThreshold) {
+            log.warn("{} {} ({}) executed {} SQL statements in {} ms and loaded {} entities",
+                    request.getMethod(), request.getRequestURI(), name, snapshot.statements(),
+                    TimeUnit.NANOSECONDS.toMillis(snapshot.jdbcNanos()), snapshot.entitiesLoaded());
+        }
+    }
+
+    // Controllers share simple names across areas (admin, public, ...), so keep the sub-package
+    private static String handlerName(HandlerMethod handlerMethod) {
+        String type = handlerMethod.getBeanType().getName();
+        if (type.startsWith(CONTROLLER_PACKAGE)) {
+            type = type.substring(CONTROLLER_PACKAGE.length());
+        }
+        return type + "." + handlerMethod.getMethod().getName();
+    }
+
+    private HandlerMeters registerMeters(String handler) {
+        return new HandlerMeters(
+                DistributionSummary.builder("http.server.requests.sql.statements")
+                        .description("SQL statements prepared by Hibernate per request")
+                        .tag("handler", handler)
+                        .register(meterRegistry),
+                Timer.builder("http.server.requests.sql.time")
+                        .description("JDBC execution time per request")
+                        .tag("handler", handler)
+                        .register(meterRegistry),
+                DistributionSummary.builder("http.server.requests.sql.entities")
+                        .description("Entities loaded by Hibernate per request")
+                        .tag("handler", handler)
+                        .register(meterRegistry));
+    }
+
+    private record HandlerMeters(DistributionSummary statements, Timer jdbcTime, DistributionSummary entities) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.teckiz.config;
+
+import com.teckiz.service.TenantContext;
+import com.teckiz.service.WebsiteManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Injects the request's TenantContext into controller methods.
+ * The tenant is resolved once per request and must belong to an active company.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final WebsiteManager websiteManager;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return TenantContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return websiteManager.checkTenantContext();
+    }
+}
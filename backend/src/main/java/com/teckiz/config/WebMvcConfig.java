@@ -0,0 +1,40 @@
+package com.teckiz.config;
+
+import com.teckiz.service.TenantContextHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final TenantContextArgumentResolver tenantContextArgumentResolver;
+    private final SqlStatementMetricsInterceptor sqlStatementMetricsInterceptor;
+    private final CacheControlInterceptor cacheControlInterceptor;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(tenantContextArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatementMetricsInterceptor);
+        registry.addInterceptor(cacheControlInterceptor).addPathPatterns("/public/**");
+    }
+
+    /**
+     * Propagate the request's tenant to tasks run on the application task executor
+     */
+    @Bean
+    public TaskDecorator tenantContextTaskDecorator() {
+        return TenantContextHolder::wrap;
+    }
+}
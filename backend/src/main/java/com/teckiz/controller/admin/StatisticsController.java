@@ -1,10 +1,15 @@
 package com.teckiz.controller.admin;
 
 import com.teckiz.entity.Company;
-import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.Statistics;
 import com.teckiz.repository.StatisticsRepository;
-import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.StatisticsEvent;
+import com.teckiz.service.StatisticsIngestionService;
+import com.teckiz.service.StatisticsRollupService;
+import com.teckiz.service.TenantContext;
+import com.teckiz.service.TrendingTracker;
+import com.teckiz.service.UniqueVisitorService;
+import com.teckiz.service.WebsiteManager;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,10 +17,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -29,8 +37,12 @@ import java.util.stream.Collectors;
 @Tag(name = "Admin - Statistics", description = "Admin endpoints for viewing statistics and analytics")
 public class StatisticsController {
 
-    private final ModuleAccessManager moduleAccessManager;
+    private final WebsiteManager websiteManager;
     private final StatisticsRepository statisticsRepository;
+    private final StatisticsIngestionService statisticsIngestionService;
+    private final StatisticsRollupService statisticsRollupService;
+    private final TrendingTracker trendingTracker;
+    private final UniqueVisitorService uniqueVisitorService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listStatistics(
@@ -39,10 +51,10 @@ public class StatisticsController {
             @RequestParam(required = false) String statType,
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            TenantContext tenant) {
 
-        CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
-        Company company = companyModuleMapper.getCompany();
+        Company company = websiteManager.getCompanyReference(tenant);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("recordedAt").descending());
         Page<Statistics> statistics;
@@ -86,22 +98,19 @@ public class StatisticsController {
     public ResponseEntity<Map<String, Object>> getStatisticsSummary(
             @RequestParam(required = false) String statType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-
-        CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
-        Company company = companyModuleMapper.getCompany();
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            TenantContext tenant) {
 
         Map<String, Object> summary = new HashMap<>();
 
         if (statType != null && startDate != null && endDate != null) {
-            Long count = statisticsRepository.countByCompanyAndStatTypeAndRecordedAtBetween(
-                    company, statType, startDate, endDate);
+            long count = statisticsRollupService.count(tenant.companyId(), statType, startDate, endDate);
             summary.put("totalCount", count);
             summary.put("statType", statType);
             summary.put("startDate", startDate);
             summary.put("endDate", endDate);
         } else if (statType != null) {
-            Long count = statisticsRepository.countByCompanyAndStatType(company, statType);
+            long count = statisticsRollupService.count(tenant.companyId(), statType);
             summary.put("totalCount", count);
             summary.put("statType", statType);
         } else {
@@ -116,21 +125,16 @@ public class StatisticsController {
             @RequestParam String statType,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @RequestParam(defaultValue = "10") int limit) {
-
-        CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
-        Company company = companyModuleMapper.getCompany();
-
-        List<Object[]> topEntities = statisticsRepository.findTopEntitiesByStatType(
-                company, statType, startDate, endDate);
+            @RequestParam(defaultValue = "10") int limit,
+            TenantContext tenant) {
 
-        List<Map<String, Object>> results = topEntities.stream()
-                .limit(limit)
-                .map(result -> {
+        List<Map<String, Object>> results = statisticsRollupService.findTopEntities(
+                        tenant.companyId(), statType, startDate, endDate, limit).stream()
+                .map(entity -> {
                     Map<String, Object> item = new HashMap<>();
-                    item.put("entityType", result[0]);
-                    item.put("entityId", result[1]);
-                    item.put("count", result[2]);
+                    item.put("entityType", entity.entityType());
+                    item.put("entityId", entity.entityId());
+                    item.put("count", entity.count());
                     return item;
                 })
                 .collect(Collectors.toList());
@@ -143,9 +147,63 @@ public class StatisticsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<Map<String, Object>> getTrending(
+            @RequestParam String statType,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int limit,
+            TenantContext tenant) {
+
+        TrendingTracker.Window trendingWindow = TrendingTracker.Window.parse(window);
+        List<Map<String, Object>> results = trendingTracker.findTop(
+                        tenant.companyId(), statType, trendingWindow, entityType, limit).stream()
+                .map(entity -> {
+                    Map<String, Object> item = new HashMap<>();
+                    item.put("entityType", entity.entityType());
+                    item.put("entityId", entity.entityId());
+                    item.put("count", entity.count());
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("trending", results);
+        response.put("statType", statType);
+        response.put("window", trendingWindow.name().toLowerCase());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/unique-visitors")
+    public ResponseEntity<Map<String, Object>> getUniqueVisitors(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            TenantContext tenant) {
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "startDate must not be after endDate"));
+        }
+
+        UniqueVisitorService.UniqueVisitors visitors = uniqueVisitorService.countUniqueVisitors(
+                tenant.companyId(), entityType, entityId, start, end);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("uniqueVisitors", visitors.total());
+        response.put("daily", visitors.daily());
+        response.put("entityType", entityType);
+        response.put("entityId", entityId);
+        response.put("startDate", start);
+        response.put("endDate", end);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
-    public ResponseEntity<?> createStatistics(@RequestBody Map<String, Object> request) {
-        CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
+    public ResponseEntity<?> createStatistics(@RequestBody Map<String, Object> request, TenantContext tenant) {
 
         String statType = (String) request.get("statType");
         if (statType == null) {
@@ -153,28 +211,31 @@ public class StatisticsController {
                     .body(Map.of("error", "statType is required"));
         }
 
-        Statistics.StatisticsBuilder builder = Statistics.builder()
-                .statType(statType)
-                .entityType((String) request.get("entityType"))
-                .entityKey((String) request.get("entityKey"))
-                .ipAddress((String) request.get("ipAddress"))
-                .userAgent((String) request.get("userAgent"))
-                .referrer((String) request.get("referrer"))
-                .sessionId((String) request.get("sessionId"))
-                .metadata((String) request.get("metadata"))
-                .company(companyModuleMapper.getCompany())
-                .companyModuleMapper(companyModuleMapper);
-
-        if (request.get("entityId") != null) {
-            builder.entityId(((Number) request.get("entityId")).longValue());
-        }
-        if (request.get("userId") != null) {
-            builder.userId(((Number) request.get("userId")).longValue());
-        }
+        StatisticsEvent event = new StatisticsEvent(
+                StatisticsIngestionService.generateStatKey(),
+                statType,
+                (String) request.get("entityType"),
+                request.get("entityId") != null ? ((Number) request.get("entityId")).longValue() : null,
+                (String) request.get("entityKey"),
+                request.get("userId") != null ? ((Number) request.get("userId")).longValue() : null,
+                (String) request.get("ipAddress"),
+                (String) request.get("userAgent"),
+                (String) request.get("referrer"),
+                (String) request.get("sessionId"),
+                (String) request.get("metadata"),
+                tenant.companyId(),
+                tenant.companyModuleMapperId(),
+                LocalDateTime.now()
+        );
 
-        Statistics statistics = statisticsRepository.save(builder.build());
+        if (!statisticsIngestionService.submit(event)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Statistics ingestion is saturated, retry later"));
+        }
 
-        return ResponseEntity.ok(Map.of("message", "Statistics recorded", "statKey", statistics.getStatKey()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("message", "Statistics recorded", "statKey", event.statKey()));
     }
 
     private Map<String, Object> mapToResponse(Statistics statistics) {
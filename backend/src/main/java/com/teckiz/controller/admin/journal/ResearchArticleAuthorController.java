@@ -5,12 +5,14 @@ import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.ResearchArticleAuthor;
 import com.teckiz.repository.ResearchArticleAuthorRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,7 @@ public class ResearchArticleAuthorController {
 
     private final ModuleAccessManager moduleAccessManager;
     private final ResearchArticleAuthorRepository authorRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listAuthors(
@@ -169,6 +172,9 @@ public class ResearchArticleAuthorController {
         }
 
         author = authorRepository.save(author);
+        // Authors are embedded in research article responses
+        renderedResponseCache.evictCompany(companyModuleMapper.getCompany().getId(),
+                EnumSet.of(RenderedResponseCache.Type.RESEARCH_ARTICLE));
 
         return ResponseEntity.ok(Map.of("message", "Author updated successfully"));
     }
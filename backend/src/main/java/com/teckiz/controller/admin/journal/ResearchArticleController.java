@@ -5,19 +5,22 @@ import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.ResearchArticle;
 import com.teckiz.entity.ResearchArticleAuthor;
 import com.teckiz.entity.ResearchArticleAuthorMapper;
-import com.teckiz.entity.ResearchArticleType;
 import com.teckiz.entity.ResearchJournalVolume;
 import com.teckiz.repository.ResearchArticleAuthorMapperRepository;
 import com.teckiz.repository.ResearchArticleAuthorRepository;
 import com.teckiz.repository.ResearchArticleRepository;
+import com.teckiz.repository.ResearchArticleSpecifications;
 import com.teckiz.repository.ResearchArticleTypeRepository;
 import com.teckiz.repository.ResearchJournalVolumeRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
+import com.teckiz.service.ResearchArticleCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -42,6 +45,8 @@ public class ResearchArticleController {
     private final ResearchJournalVolumeRepository volumeRepository;
     private final ResearchArticleAuthorRepository authorRepository;
     private final ResearchArticleAuthorMapperRepository authorMapperRepository;
+    private final ResearchArticleCounterService articleCounterService;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listArticles(
@@ -55,64 +60,22 @@ public class ResearchArticleController {
         CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<ResearchArticle> articles;
-
-        if (status != null && !status.isEmpty()) {
-            articles = articleRepository.findByCompanyAndStatus(
-                    companyModuleMapper.getCompany(),
-                    status,
-                    pageable
-            );
-        } else {
-            articles = articleRepository.findByCompany(
-                    companyModuleMapper.getCompany(),
-                    pageable
-            );
-        }
-
-        // Filter by article type and volume in memory for now
-        // TODO: Move filtering to repository queries for better performance
-        List<ResearchArticle> filteredArticles = new ArrayList<>(articles.getContent());
-        
-        // Filter by article type if provided
-        if (articleTypeKey != null && !articleTypeKey.isEmpty()) {
-            ResearchArticleType articleType = articleTypeRepository.findByTypeKey(articleTypeKey)
-                    .orElse(null);
-            if (articleType != null) {
-                final Long articleTypeId = articleType.getId();
-                filteredArticles = filteredArticles.stream()
-                        .filter(article -> article.getResearchArticleType() != null &&
-                                article.getResearchArticleType().getId().equals(articleTypeId))
-                        .collect(Collectors.toList());
-            }
-        }
-
-        // Filter by volume if provided
-        if (volumeKey != null && !volumeKey.isEmpty()) {
-            ResearchJournalVolume volume = volumeRepository.findByVolumeKey(volumeKey)
-                    .orElse(null);
-            if (volume != null) {
-                final Long volumeId = volume.getId();
-                filteredArticles = filteredArticles.stream()
-                        .filter(article -> article.getResearchJournalVolume() != null &&
-                                article.getResearchJournalVolume().getId().equals(volumeId))
-                        .collect(Collectors.toList());
-            }
-        }
-        
-        // Apply pagination to filtered results
-        int start = page * size;
-        int end = Math.min(start + size, filteredArticles.size());
-        List<ResearchArticle> paginatedArticles = filteredArticles.subList(start, end);
-
-        List<Map<String, Object>> articleResponses = paginatedArticles.stream()
+        Specification<ResearchArticle> filters = Specification
+                .where(ResearchArticleSpecifications.belongsTo(companyModuleMapper.getCompany()))
+                .and(ResearchArticleSpecifications.hasStatus(status))
+                .and(ResearchArticleSpecifications.hasArticleType(articleTypeKey))
+                .and(ResearchArticleSpecifications.inVolume(volumeKey))
+                .and(ResearchArticleSpecifications.titleContains(searchKey));
+        Page<ResearchArticle> articles = articleRepository.findAll(filters, pageable);
+
+        List<Map<String, Object>> articleResponses = articles.getContent().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
         Map<String, Object> response = new HashMap<>();
         response.put("articles", articleResponses);
-        response.put("totalPages", (int) Math.ceil((double) filteredArticles.size() / size));
-        response.put("totalElements", filteredArticles.size());
+        response.put("totalPages", articles.getTotalPages());
+        response.put("totalElements", articles.getTotalElements());
         response.put("currentPage", page);
         response.put("leftTab", "article");
         return ResponseEntity.ok(response);
@@ -272,6 +235,7 @@ public class ResearchArticleController {
             List<String> authorKeys = (List<String>) request.get("authorKeys");
             updateArticleAuthors(article, authorKeys);
         }
+        renderedResponseCache.evict(RenderedResponseCache.Type.RESEARCH_ARTICLE, article.getId());
 
         return ResponseEntity.ok(Map.of("message", "Article updated successfully"));
     }
@@ -291,6 +255,7 @@ public class ResearchArticleController {
         article.setStatus(ResearchArticle.INCOMPLETE);
         article.setPublished(false);
         articleRepository.save(article);
+        renderedResponseCache.evict(RenderedResponseCache.Type.RESEARCH_ARTICLE, article.getId());
 
         return ResponseEntity.ok(Map.of("message", "Article deleted successfully"));
     }
@@ -390,9 +355,9 @@ public class ResearchArticleController {
         response.put("startPage", article.getStartPage());
         response.put("endPage", article.getEndPage());
         response.put("thumbnail", article.getThumbnail());
-        response.put("downloads", article.getDownloads());
-        response.put("views", article.getViews());
-        response.put("visits", article.getVisits());
+        response.put("downloads", article.getDownloads() + articleCounterService.pending(article.getId(), ResearchArticleCounterService.Counter.DOWNLOADS));
+        response.put("views", article.getViews() + articleCounterService.pending(article.getId(), ResearchArticleCounterService.Counter.VIEWS));
+        response.put("visits", article.getVisits() + articleCounterService.pending(article.getId(), ResearchArticleCounterService.Counter.VISITS));
         
         if (article.getResearchArticleType() != null) {
             response.put("articleType", Map.of(
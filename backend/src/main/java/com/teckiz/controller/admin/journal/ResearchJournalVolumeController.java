@@ -7,6 +7,7 @@ import com.teckiz.entity.ResearchJournalVolume;
 import com.teckiz.repository.ResearchJournalRepository;
 import com.teckiz.repository.ResearchJournalVolumeRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +19,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,7 @@ public class ResearchJournalVolumeController {
     private final ModuleAccessManager moduleAccessManager;
     private final ResearchJournalVolumeRepository volumeRepository;
     private final ResearchJournalRepository journalRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listVolumes(
@@ -157,6 +160,9 @@ public class ResearchJournalVolumeController {
         }
 
         volume = volumeRepository.save(volume);
+        // Volumes are embedded in research article responses
+        renderedResponseCache.evictCompany(companyModuleMapper.getCompany().getId(),
+                EnumSet.of(RenderedResponseCache.Type.RESEARCH_ARTICLE));
 
         return ResponseEntity.ok(Map.of("message", "Volume updated successfully"));
     }
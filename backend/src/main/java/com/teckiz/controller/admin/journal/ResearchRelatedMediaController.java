@@ -11,6 +11,7 @@ import com.teckiz.repository.ResearchJournalRepository;
 import com.teckiz.repository.ResearchJournalVolumeRepository;
 import com.teckiz.repository.ResearchRelatedMediaRepository;
 import com.teckiz.service.FileUploadService;
+import com.teckiz.service.ImageDerivativeService;
 import com.teckiz.service.ImageProcessingService;
 import com.teckiz.service.ModuleAccessManager;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +45,7 @@ public class ResearchRelatedMediaController {
     private final ResearchJournalVolumeRepository volumeRepository;
     private final FileUploadService fileUploadService;
     private final ImageProcessingService imageProcessingService;
+    private final ImageDerivativeService imageDerivativeService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listMedia(
@@ -168,21 +171,20 @@ public class ResearchRelatedMediaController {
                     .body(Map.of("error", "File is empty"));
         }
 
+        // Images are spooled once, stored from disk and get their thumbnails in the background
+        boolean image = imageProcessingService.isImage(file);
         String location;
-        String thumbnailLocation = null;
+        Path source = null;
         try {
-            location = fileUploadService.uploadFile(file, "research-media");
-
-            // Generate thumbnail if it's an image
-            if (file.getContentType() != null && file.getContentType().startsWith("image/")) {
-                try {
-                    String thumbnailPath = "research-media/thumbnails/" + file.getOriginalFilename();
-                    thumbnailLocation = imageProcessingService.generateThumbnail(file, thumbnailPath);
-                } catch (IOException e) {
-                    System.out.println("Failed to generate thumbnail: " + e.getMessage());
-                }
+            if (image) {
+                source = imageDerivativeService.spool(file);
+                location = fileUploadService.uploadFile(source, file.getOriginalFilename(),
+                        file.getContentType(), "research-media");
+            } else {
+                location = fileUploadService.uploadFile(file, "research-media");
             }
         } catch (IOException e) {
+            imageDerivativeService.discard(source);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
@@ -197,7 +199,8 @@ public class ResearchRelatedMediaController {
                 .mediaType(determineMediaType(mimeType))
                 .poster(false)
                 .fileName(fileName)
-                .fileSize(file.getSize());
+                .fileSize(file.getSize())
+                .derivativeStatus(image ? ImageDerivativeService.STATUS_PENDING : null);
 
         // Set associations if provided
         if (articleKey != null && !articleKey.isEmpty()) {
@@ -214,15 +217,25 @@ public class ResearchRelatedMediaController {
         }
 
         ResearchRelatedMedia media = builder.build();
-        media = mediaRepository.save(media);
+        try {
+            media = mediaRepository.save(media);
+        } catch (RuntimeException e) {
+            imageDerivativeService.discard(source);
+            throw e;
+        }
+        if (image) {
+            imageDerivativeService.schedule(ImageDerivativeService.MediaTable.RESEARCH_RELATED_MEDIA,
+                    media.getId(), source, location, "research-media", fileName);
+        }
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(Map.of(
-                        "message", "File uploaded successfully",
-                        "mediaKey", media.getRelatedMediaKey(),
-                        "location", location,
-                        "thumbnailLocation", thumbnailLocation
-                ));
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "File uploaded successfully");
+        response.put("mediaKey", media.getRelatedMediaKey());
+        response.put("location", location);
+        response.put("derivativeStatus", media.getDerivativeStatus());
+        // Medium derivative, the size of the former inline thumbnail; null until derivativeStatus is ready
+        response.put("thumbnailLocation", media.getThumbnailMedium());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PutMapping("/{mediaKey}")
@@ -279,6 +292,8 @@ public class ResearchRelatedMediaController {
         } catch (IOException e) {
             System.err.println("Failed to delete file from storage: " + e.getMessage());
         }
+        imageDerivativeService.deleteDerivatives(media.getThumbnailSmall(), media.getThumbnailMedium(),
+                media.getThumbnailLarge());
 
         mediaRepository.delete(media);
 
@@ -295,6 +310,11 @@ public class ResearchRelatedMediaController {
         response.put("poster", media.getPoster());
         response.put("fileName", media.getFileName());
         response.put("fileSize", media.getFileSize());
+        response.put("derivativeStatus", media.getDerivativeStatus());
+        response.put("thumbnailSmall", media.getThumbnailSmall());
+        response.put("thumbnailMedium", media.getThumbnailMedium());
+        response.put("thumbnailLarge", media.getThumbnailLarge());
+        response.put("thumbnailLocation", media.getThumbnailMedium());
         if (media.getResearchArticle() != null) {
             response.put("articleKey", media.getResearchArticle().getArticleKey());
         }
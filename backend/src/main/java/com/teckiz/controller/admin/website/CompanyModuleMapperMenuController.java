@@ -1,9 +1,11 @@
 package com.teckiz.controller.admin.website;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.MenuNode;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.CompanyModuleMapperMenu;
 import com.teckiz.repository.CompanyModuleMapperMenuRepository;
+import com.teckiz.service.MenuTreeService;
 import com.teckiz.service.ModuleAccessManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,7 @@ public class CompanyModuleMapperMenuController {
 
     private final ModuleAccessManager moduleAccessManager;
     private final CompanyModuleMapperMenuRepository menuRepository;
+    private final MenuTreeService menuTreeService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listMenus(
@@ -31,17 +34,9 @@ public class CompanyModuleMapperMenuController {
 
         CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
 
-        List<CompanyModuleMapperMenu> menus;
-        if (menuType != null && !menuType.isEmpty()) {
-            menus = menuRepository.findByCompanyModuleMapperOrderByPositionAsc(companyModuleMapper)
-                    .stream()
-                    .filter(menu -> menuType.equals(menu.getMenuType()))
-                    .collect(Collectors.toList());
-        } else {
-            menus = menuRepository.findByCompanyModuleMapperOrderByPositionAsc(companyModuleMapper);
-        }
-
-        List<Map<String, Object>> menuResponses = menus.stream()
+        List<Map<String, Object>> menuResponses = menuTreeService.getTree(companyModuleMapper.getId()).menus()
+                .stream()
+                .filter(menu -> menuType == null || menuType.isEmpty() || menuType.equals(menu.menuType()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
@@ -54,11 +49,8 @@ public class CompanyModuleMapperMenuController {
     public ResponseEntity<Map<String, Object>> getMainMenu() {
         CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
 
-        List<CompanyModuleMapperMenu> menus = menuRepository
-                .findByCompanyModuleMapperAndAvailableInMainMenuTrueAndPublicMenuTrueOrderByPositionAsc(
-                        companyModuleMapper);
-
-        List<Map<String, Object>> menuResponses = menus.stream()
+        List<Map<String, Object>> menuResponses = menuTreeService.getTree(companyModuleMapper.getId()).mainMenu()
+                .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
@@ -71,11 +63,8 @@ public class CompanyModuleMapperMenuController {
     public ResponseEntity<Map<String, Object>> getFooterMenu() {
         CompanyModuleMapper companyModuleMapper = moduleAccessManager.authenticateModule();
 
-        List<CompanyModuleMapperMenu> menus = menuRepository
-                .findByCompanyModuleMapperAndPublicMenuTrueAndMasterFalseAndAvailableInFooterMenuTrueOrderByPositionAsc(
-                        companyModuleMapper);
-
-        List<Map<String, Object>> menuResponses = menus.stream()
+        List<Map<String, Object>> menuResponses = menuTreeService.getTree(companyModuleMapper.getId()).footerMenu()
+                .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
@@ -255,5 +244,39 @@ public class CompanyModuleMapperMenuController {
 
         return response;
     }
-}
 
+    private Map<String, Object> mapToResponse(MenuNode menu) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", menu.id());
+        response.put("menuKey", menu.menuKey());
+        response.put("name", menu.name());
+        response.put("routeName", menu.routeName());
+        response.put("menuType", menu.menuType());
+        response.put("publicMenu", menu.publicMenu());
+        response.put("availableInMainMenu", menu.availableInMainMenu());
+        response.put("availableInFooterMenu", menu.availableInFooterMenu());
+        response.put("availableInHomePage", menu.availableInHomePage());
+        response.put("homePage", menu.homePage());
+        response.put("master", menu.master());
+        response.put("thumbnail", menu.thumbnail());
+        response.put("externalUrl", menu.externalUrl());
+        response.put("newTab", menu.newTab());
+        response.put("position", menu.position());
+        response.put("subMenuPosition", menu.subMenuPosition());
+
+        if (menu.mainMenu() != null) {
+            response.put("mainMenu", Map.of(
+                    "menuKey", menu.mainMenu().menuKey(),
+                    "name", menu.mainMenu().name()
+            ));
+        }
+
+        if (!menu.subMenus().isEmpty()) {
+            response.put("subMenus", menu.subMenus().stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList()));
+        }
+
+        return response;
+    }
+}
@@ -8,6 +8,7 @@ import com.teckiz.entity.WebContacts;
 import com.teckiz.repository.WebContactTypeRepository;
 import com.teckiz.repository.WebContactsRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,7 @@ public class WebContactsController {
     private final ModuleAccessManager moduleAccessManager;
     private final WebContactsRepository webContactsRepository;
     private final WebContactTypeRepository webContactTypeRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listContacts(
@@ -153,6 +156,9 @@ public class WebContactsController {
         }
 
         contact = webContactsRepository.save(contact);
+        // Contacts are embedded in page and event responses
+        renderedResponseCache.evictCompany(companyModuleMapper.getCompany().getId(),
+                EnumSet.of(RenderedResponseCache.Type.PAGE, RenderedResponseCache.Type.EVENT));
 
         return ResponseEntity.ok(Map.of("message", "Contact updated successfully"));
     }
@@ -170,6 +176,8 @@ public class WebContactsController {
 
         contact.setArchived(true);
         webContactsRepository.save(contact);
+        renderedResponseCache.evictCompany(companyModuleMapper.getCompany().getId(),
+                EnumSet.of(RenderedResponseCache.Type.PAGE, RenderedResponseCache.Type.EVENT));
 
         return ResponseEntity.ok(Map.of("message", "Contact archived successfully"));
     }
@@ -7,6 +7,7 @@ import com.teckiz.entity.WebEvent;
 import com.teckiz.repository.WebContactsRepository;
 import com.teckiz.repository.WebEventRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +33,7 @@ public class WebEventController {
     private final ModuleAccessManager moduleAccessManager;
     private final WebEventRepository webEventRepository;
     private final WebContactsRepository webContactsRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listEvents(
@@ -174,6 +176,7 @@ public class WebEventController {
         }
 
         event = webEventRepository.save(event);
+        renderedResponseCache.evict(RenderedResponseCache.Type.EVENT, event.getId());
 
         return ResponseEntity.ok(Map.of("message", "Event updated successfully"));
     }
@@ -191,6 +194,7 @@ public class WebEventController {
 
         event.setArchived(true);
         webEventRepository.save(event);
+        renderedResponseCache.evict(RenderedResponseCache.Type.EVENT, event.getId());
 
         return ResponseEntity.ok(Map.of("message", "Event archived successfully"));
     }
@@ -10,6 +10,7 @@ import com.teckiz.repository.WebContactsRepository;
 import com.teckiz.repository.WebNewsRepository;
 import com.teckiz.repository.WebNewsTypeRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +37,7 @@ public class WebNewsController {
     private final WebNewsRepository webNewsRepository;
     private final WebNewsTypeRepository webNewsTypeRepository;
     private final WebContactsRepository webContactsRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listNews(
@@ -177,6 +179,7 @@ public class WebNewsController {
         }
 
         webNews = webNewsRepository.save(webNews);
+        renderedResponseCache.evict(RenderedResponseCache.Type.NEWS, webNews.getId());
 
         return ResponseEntity.ok(mapToResponse(webNews));
     }
@@ -195,6 +198,7 @@ public class WebNewsController {
 
         webNews.setArchived(true);
         webNewsRepository.save(webNews);
+        renderedResponseCache.evict(RenderedResponseCache.Type.NEWS, webNews.getId());
 
         return ResponseEntity.ok(Map.of("message", "News archived successfully"));
     }
@@ -9,6 +9,7 @@ import com.teckiz.entity.WebPage;
 import com.teckiz.repository.WebContactsRepository;
 import com.teckiz.repository.WebPageRepository;
 import com.teckiz.service.ModuleAccessManager;
+import com.teckiz.service.RenderedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +34,7 @@ public class WebPageController {
     private final ModuleAccessManager moduleAccessManager;
     private final WebPageRepository webPageRepository;
     private final WebContactsRepository webContactsRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listPages(
@@ -147,6 +149,7 @@ public class WebPageController {
         }
 
         webPage = webPageRepository.save(webPage);
+        renderedResponseCache.evict(RenderedResponseCache.Type.PAGE, webPage.getId());
 
         return ResponseEntity.ok(mapToResponse(webPage));
     }
@@ -164,6 +167,7 @@ public class WebPageController {
         }
 
         webPageRepository.delete(webPage);
+        renderedResponseCache.evict(RenderedResponseCache.Type.PAGE, webPage.getId());
 
         return ResponseEntity.ok(Map.of("message", "Page deleted successfully"));
     }
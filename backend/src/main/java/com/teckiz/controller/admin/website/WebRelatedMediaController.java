@@ -5,12 +5,14 @@ import com.teckiz.entity.Company;
 import com.teckiz.entity.WebRelatedMedia;
 import com.teckiz.repository.WebRelatedMediaRepository;
 import com.teckiz.service.FileUploadService;
+import com.teckiz.service.ImageDerivativeService;
 import com.teckiz.service.ImageProcessingService;
 import com.teckiz.service.ModuleAccessManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +39,7 @@ public class WebRelatedMediaController {
     private final WebRelatedMediaRepository mediaRepository;
     private final FileUploadService fileUploadService;
     private final ImageProcessingService imageProcessingService;
+    private final ImageDerivativeService imageDerivativeService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listMedia(
@@ -119,23 +122,21 @@ public class WebRelatedMediaController {
                     .body(Map.of("error", "File is empty"));
         }
 
-        // Upload file using FileUploadService
+        // Upload file using FileUploadService; images are spooled once, stored from disk and get
+        // their thumbnails in the background
+        boolean image = imageProcessingService.isImage(file);
         String location;
-        String thumbnailLocation = null;
+        Path source = null;
         try {
-            location = fileUploadService.uploadFile(file, "media");
-            
-            // Generate thumbnail if it's an image
-            if (imageProcessingService != null && imageProcessingService.isImage(file)) {
-                try {
-                    String thumbnailPath = "media/thumbnails/" + file.getOriginalFilename();
-                    thumbnailLocation = imageProcessingService.generateThumbnail(file, thumbnailPath);
-                } catch (IOException e) {
-                    // Log warning but continue without thumbnail
-                    System.out.println("Failed to generate thumbnail: " + e.getMessage());
-                }
+            if (image) {
+                source = imageDerivativeService.spool(file);
+                location = fileUploadService.uploadFile(source, file.getOriginalFilename(),
+                        file.getContentType(), "media");
+            } else {
+                location = fileUploadService.uploadFile(file, "media");
             }
         } catch (IOException e) {
+            imageDerivativeService.discard(source);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
@@ -149,17 +150,27 @@ public class WebRelatedMediaController {
                 .mimeType(mimeType)
                 .mediaType(determineMediaType(mimeType))
                 .poster(false)
+                .derivativeStatus(image ? ImageDerivativeService.STATUS_PENDING : null)
                 .build();
 
-        media = mediaRepository.save(media);
+        try {
+            media = mediaRepository.save(media);
+        } catch (RuntimeException e) {
+            imageDerivativeService.discard(source);
+            throw e;
+        }
+        if (image) {
+            imageDerivativeService.schedule(ImageDerivativeService.MediaTable.WEB_RELATED_MEDIA,
+                    media.getId(), source, location, "media", fileName);
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "File uploaded successfully");
         response.put("mediaKey", media.getRelatedMediaKey());
         response.put("location", location);
-        if (thumbnailLocation != null) {
-            response.put("thumbnail", thumbnailLocation);
-        }
+        response.put("derivativeStatus", media.getDerivativeStatus());
+        // Medium derivative, the size of the former inline thumbnail; null until derivativeStatus is ready
+        response.put("thumbnail", media.getThumbnailMedium());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -207,6 +218,8 @@ public class WebRelatedMediaController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
+        imageDerivativeService.deleteDerivatives(media.getThumbnailSmall(), media.getThumbnailMedium(),
+                media.getThumbnailLarge());
         // TODO: Delete actual file from storage before deleting record
         mediaRepository.delete(media);
 
@@ -221,8 +234,12 @@ public class WebRelatedMediaController {
         response.put("mimeType", media.getMimeType());
         response.put("mediaType", media.getMediaType());
         response.put("poster", media.getPoster());
+        response.put("derivativeStatus", media.getDerivativeStatus());
+        response.put("thumbnailSmall", media.getThumbnailSmall());
+        response.put("thumbnailMedium", media.getThumbnailMedium());
+        response.put("thumbnailLarge", media.getThumbnailLarge());
+        response.put("thumbnail", media.getThumbnailMedium());
         response.put("createdAt", media.getCreatedAt());
-        // Note: Thumbnail can be generated on-demand or stored separately
         return response;
     }
 
@@ -1,6 +1,9 @@
 package com.teckiz.controller.publicapi;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.ContentVersion;
+import com.teckiz.dto.IndexJournalArticleSummary;
+import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.IndexJournal;
 import com.teckiz.entity.IndexJournalArticle;
@@ -9,18 +12,20 @@ import com.teckiz.repository.IndexJournalArticleRepository;
 import com.teckiz.repository.IndexJournalRepository;
 import com.teckiz.repository.IndexJournalVolumeRepository;
 import com.teckiz.service.WebsiteManager;
+import com.teckiz.util.ConditionalGet;
+import com.teckiz.util.FeedCursor;
+import com.teckiz.util.FeedPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @Tag(name = "Public - IndexJournalArticle", description = "Public API endpoints for IndexJournalArticle")
@@ -39,7 +44,8 @@ public class IndexJournalArticleController {
             @PathVariable String journalKey,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String volumeKey) {
+            @RequestParam(required = false) String volumeKey,
+            @RequestParam(required = false) String cursor) {
 
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
@@ -54,39 +60,72 @@ public class IndexJournalArticleController {
             return ResponseEntity.notFound().build();
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<IndexJournalArticle> articles;
+        // Passing a cursor (empty for the first page) switches to keyset pagination
+        if (cursor != null) {
+            IndexJournalVolume volume = null;
+            if (volumeKey != null && !volumeKey.isEmpty()) {
+                volume = volumeRepository.findByVolumeKey(volumeKey)
+                        .filter(v -> v.getCompany().getId().equals(companyModuleMapper.getCompany().getId()))
+                        .orElse(null);
+                if (volume == null) {
+                    return ResponseEntity.ok(Map.of("articles", List.of()));
+                }
+            }
+            return ResponseEntity.ok(listArticleFeed(companyModuleMapper.getCompany(), journal, volume, cursor, size));
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<IndexJournalArticleSummary> articles;
 
         if (volumeKey != null && !volumeKey.isEmpty()) {
             IndexJournalVolume volume = volumeRepository.findByVolumeKey(volumeKey)
                     .orElse(null);
             if (volume != null && volume.getCompany().getId().equals(companyModuleMapper.getCompany().getId())) {
-                articles = articleRepository.findByCompanyAndIndexJournalVolumeAndPublishedTrueAndArchivedFalse(
-                        companyModuleMapper.getCompany(), volume, pageable);
+                articles = articleRepository.findPublishedSummaries(
+                        companyModuleMapper.getCompany(), journal, volume, pageable);
             } else {
                 articles = Page.empty(pageable);
             }
         } else {
-            articles = articleRepository.findByCompanyAndIndexJournalAndPublishedTrueAndArchivedFalse(
-                    companyModuleMapper.getCompany(), journal, pageable);
+            articles = articleRepository.findPublishedSummaries(
+                    companyModuleMapper.getCompany(), journal, null, pageable);
         }
 
-        List<Map<String, Object>> articleResponses = articles.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
         Map<String, Object> response = new HashMap<>();
-        response.put("articles", articleResponses);
+        response.put("articles", articles.getContent());
         response.put("totalPages", articles.getTotalPages());
         response.put("totalElements", articles.getTotalElements());
         response.put("currentPage", page);
         return ResponseEntity.ok(response);
     }
 
+    private Map<String, Object> listArticleFeed(Company company, IndexJournal journal, IndexJournalVolume volume,
+                                                String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, FeedPage.fetchSize(size));
+
+        List<IndexJournalArticleSummary> fetched;
+        if (after == null) {
+            fetched = articleRepository.findPublishedFeed(company, journal, volume, limit);
+        } else if (after.publishedAt() != null) {
+            fetched = articleRepository.findPublishedFeedAfter(company, journal, volume, after.publishedAt(), after.id(), limit);
+        } else {
+            fetched = articleRepository.findUndatedFeedAfter(company, journal, volume, after.id(), limit);
+        }
+        FeedPage<IndexJournalArticleSummary> feed = FeedPage.of(fetched, size,
+                IndexJournalArticleSummary::publishedAt, IndexJournalArticleSummary::id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("articles", feed.items());
+        response.put("nextCursor", feed.nextCursor());
+        return response;
+    }
+
     @GetMapping("/{articleKey}")
     public ResponseEntity<Map<String, Object>> getArticle(
             @PathVariable String journalKey,
-            @PathVariable String articleKey) {
+            @PathVariable String articleKey,
+            WebRequest webRequest) {
 
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
@@ -97,6 +136,13 @@ public class IndexJournalArticleController {
             return ResponseEntity.notFound().build();
         }
 
+        // Answer revalidation from the validator columns alone
+        ContentVersion version = articleRepository.findPublishedVersionByArticleKey(articleKey, companyModuleMapper.getCompany())
+                .orElse(null);
+        if (version != null && ConditionalGet.checkNotModified(webRequest, "index-journal-article", version)) {
+            return null;
+        }
+
         IndexJournalArticle article = articleRepository.findByArticleKey(articleKey)
                 .orElseThrow(() -> new RuntimeException("Article not found"));
 
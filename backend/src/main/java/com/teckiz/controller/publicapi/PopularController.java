@@ -0,0 +1,50 @@
+package com.teckiz.controller.publicapi;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.teckiz.service.TenantContext;
+import com.teckiz.service.TrendingTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@Tag(name = "Public - Popular", description = "Public API endpoints for popular content")
+@RequestMapping("/public/popular")
+@RequiredArgsConstructor
+public class PopularController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final TrendingTracker trendingTracker;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listPopular(
+            @RequestParam(defaultValue = "page_view") String statType,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(defaultValue = "week") String window,
+            @RequestParam(defaultValue = "10") int limit,
+            TenantContext tenant) {
+
+        TrendingTracker.Window trendingWindow = TrendingTracker.Window.parse(window);
+        List<Map<String, Object>> popular = trendingTracker.findTop(
+                        tenant.companyId(), statType, trendingWindow, entityType, Math.min(limit, MAX_LIMIT)).stream()
+                .map(entity -> {
+                    Map<String, Object> item = new HashMap<>();
+                    item.put("entityType", entity.entityType());
+                    item.put("entityId", entity.entityId());
+                    item.put("count", entity.count());
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("popular", popular);
+        response.put("window", trendingWindow.name().toLowerCase());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,23 +1,33 @@
 package com.teckiz.controller.publicapi;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.ResearchArticleSummary;
+import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.ResearchArticle;
 import com.teckiz.entity.ResearchJournalVolume;
+import com.teckiz.repository.ResearchArticleAuthorMapperRepository;
 import com.teckiz.repository.ResearchArticleRepository;
 import com.teckiz.repository.ResearchJournalVolumeRepository;
+import com.teckiz.service.ArticleSearchIndex;
+import com.teckiz.service.RenderedResponseCache;
+import com.teckiz.service.ResearchArticleCounterService;
 import com.teckiz.service.WebsiteManager;
+import com.teckiz.util.FeedCursor;
+import com.teckiz.util.FeedPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @RestController
@@ -29,81 +39,162 @@ public class ResearchArticleController {
 
     private final WebsiteManager websiteManager;
     private final ResearchArticleRepository articleRepository;
+    private final ResearchArticleAuthorMapperRepository authorMapperRepository;
     private final ResearchJournalVolumeRepository volumeRepository;
+    private final ResearchArticleCounterService articleCounterService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listPublishedArticles(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String volumeKey,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor) {
 
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<ResearchArticle> articles;
-
-        if (volumeKey != null && !volumeKey.isEmpty()) {
-            ResearchJournalVolume volume = volumeRepository.findByVolumeKey(volumeKey)
-                    .orElseThrow(() -> new RuntimeException("Volume not found"));
-            articles = articleRepository.findByResearchJournalVolume(volume, pageable);
-        } else {
-            articles = articleRepository.findByCompanyAndPublishedTrue(
-                    companyModuleMapper.getCompany(),
-                    pageable
-            );
+        // Passing a cursor (empty for the first page) switches to keyset pagination
+        if (cursor != null) {
+            if ((volumeKey != null && !volumeKey.isEmpty()) || (search != null && !search.isEmpty())) {
+                throw new IllegalArgumentException("cursor cannot be combined with volumeKey or search");
+            }
+            return ResponseEntity.ok(listArticleFeed(companyModuleMapper.getCompany(), cursor, size));
         }
 
-        // Filter by search if provided
+        // Ranked search through the tenant's article index
         if (search != null && !search.isEmpty()) {
-            List<ResearchArticle> searchResults = articleRepository.searchPublishedArticles(
-                    companyModuleMapper.getCompany(),
-                    search
+            ArticleSearchIndex.Results results = articleSearchIndex.search(
+                    companyModuleMapper.getCompany().getId(),
+                    search,
+                    ArticleSearchIndex.DocType.RESEARCH_ARTICLE,
+                    page * size,
+                    size
             );
-            // Manual pagination for search results
-            int start = page * size;
-            int end = Math.min(start + size, searchResults.size());
-            List<ResearchArticle> paginatedResults = searchResults.subList(start, end);
-            
-            List<Map<String, Object>> articleResponses = paginatedResults.stream()
-                    .map(this::mapToResponse)
+            List<Long> ids = results.hits().stream()
+                    .map(ArticleSearchIndex.Hit::entityId)
                     .collect(Collectors.toList());
+            List<ResearchArticleSummary> hits = ids.isEmpty() ? List.of() : articleRepository.findPublishedSummariesByIdIn(ids);
+            Map<Long, ResearchArticleSummary> found = withAuthors(hits).stream()
+                    .collect(Collectors.toMap(ResearchArticleSummary::id, article -> article));
 
             Map<String, Object> response = new HashMap<>();
-            response.put("articles", articleResponses);
-            response.put("totalElements", searchResults.size());
+            response.put("articles", ids.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+            response.put("totalElements", results.total());
             response.put("currentPage", page);
-            response.put("totalPages", (int) Math.ceil((double) searchResults.size() / size));
+            response.put("totalPages", (int) Math.ceil((double) results.total() / size));
             return ResponseEntity.ok(response);
         }
 
-        List<Map<String, Object>> articleResponses = articles.getContent().stream()
-                .filter(article -> Boolean.TRUE.equals(article.getPublished()))
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        ResearchJournalVolume volume = null;
+        if (volumeKey != null && !volumeKey.isEmpty()) {
+            volume = volumeRepository.findByVolumeKey(volumeKey)
+                    .orElseThrow(() -> new RuntimeException("Volume not found"));
+        }
+        Page<ResearchArticleSummary> articles = articleRepository.findPublishedSummaries(
+                companyModuleMapper.getCompany(),
+                volume,
+                PageRequest.of(page, size)
+        );
 
         Map<String, Object> response = new HashMap<>();
-        response.put("articles", articleResponses);
+        response.put("articles", withAuthors(articles.getContent()));
         response.put("totalPages", articles.getTotalPages());
         response.put("totalElements", articles.getTotalElements());
         response.put("currentPage", page);
         return ResponseEntity.ok(response);
     }
 
+    private Map<String, Object> listArticleFeed(Company company, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, FeedPage.fetchSize(size));
+
+        List<ResearchArticleSummary> fetched;
+        if (after == null) {
+            fetched = articleRepository.findPublishedFeed(company, limit);
+        } else if (after.publishedAt() != null) {
+            fetched = articleRepository.findPublishedFeedAfter(company, after.publishedAt(), after.id(), limit);
+        } else {
+            fetched = articleRepository.findUndatedFeedAfter(company, after.id(), limit);
+        }
+        FeedPage<ResearchArticleSummary> feed = FeedPage.of(fetched, size,
+                ResearchArticleSummary::publishedAt, ResearchArticleSummary::id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("articles", withAuthors(feed.items()));
+        response.put("nextCursor", feed.nextCursor());
+        return response;
+    }
+
+    /**
+     * Attach the authors of a page of list items with one query
+     */
+    private List<ResearchArticleSummary> withAuthors(List<ResearchArticleSummary> articles) {
+        if (articles.isEmpty()) {
+            return articles;
+        }
+        Map<Long, List<ResearchArticleSummary.Author>> authors = authorMapperRepository
+                .findAuthorSummaries(articles.stream().map(ResearchArticleSummary::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ResearchArticleSummary.Author::articleId));
+        return articles.stream()
+                .map(article -> article.withAuthors(authors.getOrDefault(article.id(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     @GetMapping("/{slug}")
-    public ResponseEntity<Map<String, Object>> getArticleBySlug(@PathVariable String slug) {
+    public ResponseEntity<byte[]> getArticleBySlug(@PathVariable String slug) {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
+        Long companyId = companyModuleMapper.getCompany().getId();
+
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.getOrRender(
+                companyId, RenderedResponseCache.Type.RESEARCH_ARTICLE, slug, () -> {
+                    ResearchArticle article = articleRepository.findBySlug(slug)
+                            .orElseThrow(() -> new RuntimeException("Article not found"));
+
+                    // Verify article belongs to company and is published
+                    if (!article.getCompany().getId().equals(companyId) ||
+                            !Boolean.TRUE.equals(article.getPublished())) {
+                        return null;
+                    }
+                    return new RenderedResponseCache.Source(article.getId(), null, mapToResponse(article));
+                });
+        if (rendered == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Views are counted on cache hits too
+        articleCounterService.increment(rendered.entityId(), ResearchArticleCounterService.Counter.VIEWS);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.body());
+    }
+
+    /**
+     * Record a download or visit of a published article
+     */
+    @PostMapping("/{slug}/counters/{counter}")
+    public ResponseEntity<Void> incrementCounter(@PathVariable String slug, @PathVariable String counter) {
+        CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
+
+        ResearchArticleCounterService.Counter articleCounter = ResearchArticleCounterService.Counter.parse(counter);
+        if (articleCounter == ResearchArticleCounterService.Counter.VIEWS) {
+            throw new IllegalArgumentException("Views are counted when the article is fetched");
+        }
 
         ResearchArticle article = articleRepository.findBySlug(slug)
                 .orElseThrow(() -> new RuntimeException("Article not found"));
-
-        // Verify article belongs to company and is published
         if (!article.getCompany().getId().equals(companyModuleMapper.getCompany().getId()) ||
                 !Boolean.TRUE.equals(article.getPublished())) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(mapToResponse(article));
+        articleCounterService.increment(article.getId(), articleCounter);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
 
     private Map<String, Object> mapToResponse(ResearchArticle article) {
@@ -0,0 +1,97 @@
+package com.teckiz.controller.publicapi;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.teckiz.entity.IndexJournalArticle;
+import com.teckiz.entity.ResearchArticle;
+import com.teckiz.repository.IndexJournalArticleRepository;
+import com.teckiz.repository.ResearchArticleRepository;
+import com.teckiz.service.ArticleSearchIndex;
+import com.teckiz.service.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@Tag(name = "Public - Search", description = "Public API endpoints for article search")
+@RequestMapping("/public/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_SIZE = 50;
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ResearchArticleRepository researchArticleRepository;
+    private final IndexJournalArticleRepository indexJournalArticleRepository;
+
+    /**
+     * Ranked search over published research and index-journal articles.
+     * Quoted parts of the query must match as phrases.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) ArticleSearchIndex.DocType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            TenantContext tenant) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_SIZE);
+        ArticleSearchIndex.Results results = articleSearchIndex.search(
+                tenant.companyId(), q, type, Math.max(page, 0) * pageSize, pageSize);
+
+        List<Long> researchIds = new ArrayList<>();
+        List<Long> indexJournalIds = new ArrayList<>();
+        for (ArticleSearchIndex.Hit hit : results.hits()) {
+            (hit.type() == ArticleSearchIndex.DocType.RESEARCH_ARTICLE ? researchIds : indexJournalIds).add(hit.entityId());
+        }
+        Map<Long, ResearchArticle> researchArticles = researchArticleRepository.findAllById(researchIds).stream()
+                .collect(Collectors.toMap(ResearchArticle::getId, Function.identity()));
+        Map<Long, IndexJournalArticle> indexJournalArticles = indexJournalArticleRepository.findAllById(indexJournalIds).stream()
+                .collect(Collectors.toMap(IndexJournalArticle::getId, Function.identity()));
+
+        List<Map<String, Object>> hits = new ArrayList<>();
+        for (ArticleSearchIndex.Hit hit : results.hits()) {
+            Map<String, Object> item = null;
+            if (hit.type() == ArticleSearchIndex.DocType.RESEARCH_ARTICLE) {
+                ResearchArticle article = researchArticles.get(hit.entityId());
+                if (article != null) {
+                    item = new HashMap<>();
+                    item.put("articleKey", article.getArticleKey());
+                    item.put("title", article.getTitle());
+                    item.put("slug", article.getSlug());
+                    item.put("publishedAt", article.getPublishedAt());
+                }
+            } else {
+                IndexJournalArticle article = indexJournalArticles.get(hit.entityId());
+                if (article != null) {
+                    item = new HashMap<>();
+                    item.put("articleKey", article.getArticleKey());
+                    item.put("title", article.getTitle());
+                    item.put("slug", article.getSlug());
+                    item.put("journalKey", article.getIndexJournal() != null ? article.getIndexJournal().getJournalKey() : null);
+                    item.put("publishedAt", article.getPublishedAt());
+                }
+            }
+            if (item != null) {
+                item.put("type", hit.type());
+                item.put("id", hit.entityId());
+                item.put("score", hit.score());
+                hits.add(item);
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("results", hits);
+        response.put("totalElements", results.total());
+        response.put("currentPage", page);
+        response.put("totalPages", (int) Math.ceil((double) results.total() / pageSize));
+        return ResponseEntity.ok(response);
+    }
+}
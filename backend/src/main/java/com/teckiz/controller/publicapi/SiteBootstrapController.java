@@ -0,0 +1,28 @@
+package com.teckiz.controller.publicapi;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.teckiz.service.SiteBootstrapService;
+import com.teckiz.service.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@Tag(name = "Public - Site", description = "Public API endpoints for the site homepage")
+@RequestMapping("/public/site")
+@RequiredArgsConstructor
+public class SiteBootstrapController {
+
+    private final SiteBootstrapService siteBootstrapService;
+
+    /**
+     * Menus, carousel news, upcoming events, widgets, principal message and latest stories in
+     * one response; sections that could not be loaded are null and listed under "errors"
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<Map<String, Object>> bootstrap(TenantContext tenant) {
+        return ResponseEntity.ok(siteBootstrapService.load(tenant));
+    }
+}
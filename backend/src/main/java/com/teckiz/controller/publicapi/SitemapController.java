@@ -0,0 +1,106 @@
+package com.teckiz.controller.publicapi;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.teckiz.service.SyndicationService;
+import com.teckiz.service.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@Tag(name = "Public - Sitemap", description = "Sitemaps and RSS/Atom feeds of the site")
+@RequestMapping("/public")
+@RequiredArgsConstructor
+public class SitemapController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+
+    private final SyndicationService syndicationService;
+
+    /**
+     * Sitemap index; 404 unless Google indexing is active for the site.
+     * The frontend nginx serves it and its files at the site root (/sitemap.xml, /sitemap-1.xml.gz),
+     * which is where the index points and where robots.txt announces it.
+     */
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<Resource> sitemapIndex(TenantContext tenant, HttpServletRequest request,
+                                                 WebRequest webRequest) throws IOException {
+        SyndicationService.Artifact artifact = syndicationService.sitemapIndex(tenant, syndicationService.siteUrl(tenant));
+        return serve(artifact, MediaType.APPLICATION_XML, true, request, webRequest);
+    }
+
+    /**
+     * Gzip-compressed sitemap file listed in the sitemap index
+     */
+    @GetMapping("/sitemap-{number}.xml.gz")
+    public ResponseEntity<Resource> sitemap(@PathVariable int number, TenantContext tenant,
+                                            HttpServletRequest request, WebRequest webRequest) throws IOException {
+        SyndicationService.Artifact artifact = syndicationService.sitemap(tenant, syndicationService.siteUrl(tenant), number);
+        return serve(artifact, GZIP, false, request, webRequest);
+    }
+
+    /**
+     * Latest news, events or journal articles as RSS 2.0 or Atom 1.0, e.g. /public/feeds/news.rss,
+     * served at the site root as /feeds/news.rss
+     */
+    @GetMapping("/feeds/{feed}.{format}")
+    public ResponseEntity<Resource> feed(@PathVariable String feed, @PathVariable String format,
+                                         TenantContext tenant, HttpServletRequest request,
+                                         WebRequest webRequest) throws IOException {
+        SyndicationService.Format feedFormat = SyndicationService.Format.fromKey(format);
+        SyndicationService.Artifact artifact = syndicationService.feed(tenant, SyndicationService.Feed.fromKey(feed),
+                feedFormat, syndicationService.siteUrl(tenant) + "/feeds/" + feed + "." + format);
+        return serve(artifact, feedFormat == SyndicationService.Format.RSS ? RSS : ATOM, true, request, webRequest);
+    }
+
+    /**
+     * Stream a generated file from disk
+     * @param decode serve the file as its uncompressed content type: passed through with
+     *               Content-Encoding gzip when the client accepts it, decompressed otherwise
+     */
+    private ResponseEntity<Resource> serve(SyndicationService.Artifact artifact, MediaType contentType, boolean decode,
+                                           HttpServletRequest request, WebRequest webRequest) throws IOException {
+        if (artifact == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Validators come from the content watermark; the ETag filter must not buffer the file
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        if (webRequest.checkNotModified(artifact.etag(), artifact.lastModified().toEpochMilli())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(contentType);
+        long size = Files.size(artifact.file());
+        InputStream body = Files.newInputStream(artifact.file());
+        if (!decode) {
+            response.contentLength(size);
+        } else if (acceptsGzip(request)) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .contentLength(size);
+        } else {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            body = new GZIPInputStream(body);
+        }
+        return response.body(new InputStreamResource(body));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
@@ -1,22 +1,23 @@
 package com.teckiz.controller.publicapi;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.ContentVersion;
+import com.teckiz.dto.WebAlbumSummary;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.WebAlbum;
 import com.teckiz.repository.WebAlbumRepository;
 import com.teckiz.service.WebsiteManager;
+import com.teckiz.util.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @Tag(name = "Public - WebAlbum", description = "Public API endpoints for WebAlbum")
@@ -35,18 +36,13 @@ public class WebAlbumController {
 
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<WebAlbum> albums = webAlbumRepository.findByCompanyAndPublishedTrueAndArchivedFalse(
+        Page<WebAlbumSummary> albums = webAlbumRepository.findPublishedAlbums(
                 companyModuleMapper.getCompany(),
-                pageable
+                PageRequest.of(page, size)
         );
 
-        List<Map<String, Object>> albumResponses = albums.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
         Map<String, Object> response = new HashMap<>();
-        response.put("albums", albumResponses);
+        response.put("albums", albums.getContent());
         response.put("totalPages", albums.getTotalPages());
         response.put("totalElements", albums.getTotalElements());
         response.put("currentPage", page);
@@ -54,9 +50,16 @@ public class WebAlbumController {
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<Map<String, Object>> getAlbumBySlug(@PathVariable String slug) {
+    public ResponseEntity<Map<String, Object>> getAlbumBySlug(@PathVariable String slug, WebRequest webRequest) {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
+        // Answer revalidation from the validator columns alone
+        ContentVersion version = webAlbumRepository.findPublishedVersionBySlug(slug, companyModuleMapper.getCompany())
+                .orElse(null);
+        if (version != null && ConditionalGet.checkNotModified(webRequest, "album", version)) {
+            return null;
+        }
+
         WebAlbum album = webAlbumRepository.findBySlug(slug)
                 .orElseThrow(() -> new RuntimeException("Album not found"));
 
@@ -71,18 +74,10 @@ public class WebAlbumController {
     }
 
     @GetMapping("/carousel")
-    public ResponseEntity<List<Map<String, Object>>> getCarouselAlbums() {
+    public ResponseEntity<List<WebAlbumSummary>> getCarouselAlbums() {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        List<WebAlbum> carouselAlbums = webAlbumRepository.findByCompanyAndCarousalTrueAndPublishedTrue(
-                companyModuleMapper.getCompany()
-        );
-
-        List<Map<String, Object>> albumResponses = carouselAlbums.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(albumResponses);
+        return ResponseEntity.ok(webAlbumRepository.findCarouselAlbums(companyModuleMapper.getCompany()));
     }
 
     private Map<String, Object> mapToResponse(WebAlbum album) {
@@ -1,11 +1,14 @@
 package com.teckiz.controller.publicapi;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.WebEventSummary;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.WebEvent;
 import com.teckiz.repository.WebEventRepository;
+import com.teckiz.service.RenderedResponseCache;
 import com.teckiz.service.WebsiteManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,54 +27,57 @@ public class WebEventController {
 
     private final WebsiteManager websiteManager;
     private final WebEventRepository webEventRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Map<String, Object>>> getUpcomingEvents() {
+    public ResponseEntity<List<WebEventSummary>> getUpcomingEvents() {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        List<WebEvent> upcomingEvents = webEventRepository.findUpcomingEvents(
+        List<WebEventSummary> upcomingEvents = webEventRepository.findUpcomingEvents(
                 companyModuleMapper.getCompany(),
                 LocalDateTime.now()
         );
 
-        List<Map<String, Object>> eventResponses = upcomingEvents.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(eventResponses);
+        return ResponseEntity.ok(upcomingEvents);
     }
 
     @GetMapping("/past")
-    public ResponseEntity<List<Map<String, Object>>> getPastEvents() {
+    public ResponseEntity<List<WebEventSummary>> getPastEvents() {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        List<WebEvent> pastEvents = webEventRepository.findPastEvents(
+        List<WebEventSummary> pastEvents = webEventRepository.findPastEvents(
                 companyModuleMapper.getCompany(),
                 LocalDateTime.now()
         );
 
-        List<Map<String, Object>> eventResponses = pastEvents.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(eventResponses);
+        return ResponseEntity.ok(pastEvents);
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<Map<String, Object>> getEventBySlug(@PathVariable String slug) {
+    public ResponseEntity<byte[]> getEventBySlug(@PathVariable String slug) {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
-
-        WebEvent event = webEventRepository.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-
-        // Verify event belongs to company and is published
-        if (!event.getCompany().getId().equals(companyModuleMapper.getCompany().getId()) ||
-                !Boolean.TRUE.equals(event.getPublished()) ||
-                Boolean.TRUE.equals(event.getArchived())) {
+        Long companyId = companyModuleMapper.getCompany().getId();
+
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.getOrRender(
+                companyId, RenderedResponseCache.Type.EVENT, slug, () -> {
+                    WebEvent event = webEventRepository.findBySlug(slug)
+                            .orElseThrow(() -> new RuntimeException("Event not found"));
+
+                    // Verify event belongs to company and is published
+                    if (!event.getCompany().getId().equals(companyId) ||
+                            !Boolean.TRUE.equals(event.getPublished()) ||
+                            Boolean.TRUE.equals(event.getArchived())) {
+                        return null;
+                    }
+                    return new RenderedResponseCache.Source(event.getId(), null, mapToResponse(event));
+                });
+        if (rendered == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(mapToResponse(event));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.body());
     }
 
     private Map<String, Object> mapToResponse(WebEvent event) {
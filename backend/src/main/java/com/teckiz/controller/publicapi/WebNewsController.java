@@ -1,19 +1,30 @@
 package com.teckiz.controller.publicapi;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.teckiz.dto.ContentVersion;
+import com.teckiz.dto.WebNewsSummary;
+import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.WebNews;
 import com.teckiz.repository.WebNewsRepository;
+import com.teckiz.service.RenderedResponseCache;
 import com.teckiz.service.WebsiteManager;
+import com.teckiz.util.ConditionalGet;
+import com.teckiz.util.FeedCursor;
+import com.teckiz.util.FeedPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @Tag(name = "Public - WebNews", description = "Public API endpoints for WebNews")
@@ -24,67 +35,97 @@ public class WebNewsController {
 
     private final WebsiteManager websiteManager;
     private final WebNewsRepository webNewsRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> listPublishedNews(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long newsTypeId) {
+            @RequestParam(required = false) Long newsTypeId,
+            @RequestParam(required = false) String cursor) {
 
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        List<WebNews> publishedNews = webNewsRepository.findPublishedNews(
+        // Passing a cursor (empty for the first page) switches to keyset pagination
+        if (cursor != null) {
+            return ResponseEntity.ok(listNewsFeed(companyModuleMapper.getCompany(), cursor, size));
+        }
+
+        Page<WebNewsSummary> publishedNews = webNewsRepository.findPublishedNews(
                 companyModuleMapper.getCompany(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                PageRequest.of(page, size)
         );
 
-        // Apply pagination manually for now (can be optimized with custom query)
-        int start = page * size;
-        int end = Math.min(start + size, publishedNews.size());
-        List<WebNews> paginatedNews = publishedNews.subList(start, end);
-
-        List<Map<String, Object>> newsResponses = paginatedNews.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
         Map<String, Object> response = new HashMap<>();
-        response.put("news", newsResponses);
-        response.put("totalElements", publishedNews.size());
+        response.put("news", publishedNews.getContent());
+        response.put("totalElements", publishedNews.getTotalElements());
         response.put("currentPage", page);
-        response.put("totalPages", (int) Math.ceil((double) publishedNews.size() / size));
+        response.put("totalPages", publishedNews.getTotalPages());
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/{slug}")
-    public ResponseEntity<Map<String, Object>> getNewsBySlug(@PathVariable String slug) {
-        CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
+    private Map<String, Object> listNewsFeed(Company company, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, FeedPage.fetchSize(size));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<WebNewsSummary> fetched;
+        if (after == null) {
+            fetched = webNewsRepository.findPublishedNewsFeed(company, now, limit);
+        } else if (after.publishedAt() != null) {
+            fetched = webNewsRepository.findPublishedNewsFeedAfter(company, now, after.publishedAt(), after.id(), limit);
+        } else {
+            fetched = webNewsRepository.findUndatedNewsFeedAfter(company, after.id(), limit);
+        }
+        FeedPage<WebNewsSummary> feed = FeedPage.of(fetched, size, WebNewsSummary::publishedAt, WebNewsSummary::id);
 
-        WebNews news = webNewsRepository.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("News not found"));
+        Map<String, Object> response = new HashMap<>();
+        response.put("news", feed.items());
+        response.put("nextCursor", feed.nextCursor());
+        return response;
+    }
 
-        // Verify news belongs to company and is published
-        if (!news.getCompany().getId().equals(companyModuleMapper.getCompany().getId()) ||
-                !Boolean.TRUE.equals(news.getPublished()) ||
-                Boolean.TRUE.equals(news.getArchived())) {
+    @GetMapping("/{slug}")
+    public ResponseEntity<byte[]> getNewsBySlug(@PathVariable String slug, WebRequest webRequest) {
+        CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
+        Long companyId = companyModuleMapper.getCompany().getId();
+
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.getOrRender(
+                companyId, RenderedResponseCache.Type.NEWS, slug, () -> {
+                    WebNews news = webNewsRepository.findBySlug(slug)
+                            .orElseThrow(() -> new RuntimeException("News not found"));
+
+                    // Verify news belongs to company, is published and its scheduled publish time has passed
+                    if (!news.getCompany().getId().equals(companyId) ||
+                            !Boolean.TRUE.equals(news.getPublished()) ||
+                            Boolean.TRUE.equals(news.getArchived()) ||
+                            (news.getPublishedAt() != null && news.getPublishedAt().isAfter(LocalDateTime.now()))) {
+                        return null;
+                    }
+                    // The response embeds the type name and the poster location
+                    ContentVersion version = new ContentVersion(news.getId(), news.getUpdatedAt(),
+                            news.getWebNewsType() != null ? news.getWebNewsType().getUpdatedAt() : null,
+                            news.getPoster() != null ? news.getPoster().getUpdatedAt() : null);
+                    return new RenderedResponseCache.Source(news.getId(), version, mapToResponse(news));
+                });
+        if (rendered == null) {
             return ResponseEntity.notFound().build();
         }
+        if (ConditionalGet.checkNotModified(webRequest, "news", rendered.version())) {
+            return null;
+        }
 
-        return ResponseEntity.ok(mapToResponse(news));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.body());
     }
 
     @GetMapping("/carousel")
-    public ResponseEntity<List<Map<String, Object>>> getCarouselNews() {
+    public ResponseEntity<List<WebNewsSummary>> getCarouselNews() {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
 
-        List<WebNews> carouselNews = webNewsRepository.findByCompanyAndCarouselTrueAndPublishedTrue(
-                companyModuleMapper.getCompany()
-        );
-
-        List<Map<String, Object>> newsResponses = carouselNews.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(newsResponses);
+        return ResponseEntity.ok(webNewsRepository.findCarouselNews(companyModuleMapper.getCompany()));
     }
 
     private Map<String, Object> mapToResponse(WebNews news) {
@@ -4,8 +4,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.WebPage;
 import com.teckiz.repository.WebPageRepository;
+import com.teckiz.service.RenderedResponseCache;
 import com.teckiz.service.WebsiteManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,19 +25,34 @@ public class WebPageController {
 
     private final WebsiteManager websiteManager;
     private final WebPageRepository webPageRepository;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping("/{slug}")
-    public ResponseEntity<Map<String, Object>> getPageBySlug(@PathVariable String slug) {
+    public ResponseEntity<byte[]> getPageBySlug(@PathVariable String slug) {
         CompanyModuleMapper companyModuleMapper = websiteManager.checkAuthentication();
+        Long companyId = companyModuleMapper.getCompany().getId();
 
-        WebPage webPage = webPageRepository.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("Page not found"));
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.getOrRender(
+                companyId, RenderedResponseCache.Type.PAGE, slug, () -> {
+                    WebPage webPage = webPageRepository.findBySlug(slug)
+                            .orElseThrow(() -> new RuntimeException("Page not found"));
 
-        // Verify page belongs to company
-        if (!webPage.getCompany().getId().equals(companyModuleMapper.getCompany().getId())) {
+                    // Verify page belongs to company
+                    if (!webPage.getCompany().getId().equals(companyId)) {
+                        return null;
+                    }
+                    return new RenderedResponseCache.Source(webPage.getId(), null, mapToResponse(webPage));
+                });
+        if (rendered == null) {
             return ResponseEntity.notFound().build();
         }
 
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.body());
+    }
+
+    private Map<String, Object> mapToResponse(WebPage webPage) {
         // Get non-archived contacts
         List<Map<String, Object>> contacts = webPage.getContacts() != null ?
                 webPage.getContacts().stream()
@@ -63,8 +80,6 @@ public class WebPageController {
         response.put("contacts", contacts);
         response.put("createdAt", webPage.getCreatedAt());
         response.put("updatedAt", webPage.getUpdatedAt());
-
-        return ResponseEntity.ok(response);
+        return response;
     }
 }
-
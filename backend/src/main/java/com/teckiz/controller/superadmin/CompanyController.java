@@ -12,6 +12,8 @@ import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.repository.CompanyModuleMapperRepository;
 import com.teckiz.repository.CompanyRepository;
+import com.teckiz.service.ModuleRegistry;
+import com.teckiz.service.TenantResolutionCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +34,8 @@ public class CompanyController {
 
     private final CompanyRepository companyRepository;
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
+    private final TenantResolutionCache tenantResolutionCache;
+    private final ModuleRegistry moduleRegistry;
 
     @GetMapping
     @io.swagger.v3.oas.annotations.Operation(summary = "List all companies", description = "Get list of all active companies")
@@ -130,6 +134,8 @@ public class CompanyController {
         }
 
         Company savedCompany = companyRepository.save(company);
+        tenantResolutionCache.evictCompany(savedCompany.getId());
+        moduleRegistry.evictCompany(savedCompany.getId());
 
         return ResponseEntity.ok(mapToResponse(savedCompany));
     }
@@ -146,6 +152,8 @@ public class CompanyController {
 
         company.setArchived(true);
         companyRepository.save(company);
+        tenantResolutionCache.evictCompany(company.getId());
+        moduleRegistry.evictCompany(company.getId());
 
         return ResponseEntity.ok(Map.of("message", "Company archived successfully"));
     }
@@ -4,12 +4,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyInvoice;
 import com.teckiz.repository.CompanyInvoiceRepository;
+import com.teckiz.repository.CompanyInvoiceSpecifications;
 import com.teckiz.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -41,39 +43,19 @@ public class CompanyInvoiceController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<CompanyInvoice> invoices;
-
+        Company company = null;
         if (companyKey != null) {
-            Company company = companyRepository.findByCompanyKey(companyKey)
+            company = companyRepository.findByCompanyKey(companyKey)
                     .orElseThrow(() -> new RuntimeException("Company not found"));
-            if (status != null) {
-                invoices = invoiceRepository.findByCompanyAndStatus(company, status, pageable);
-            } else {
-                invoices = invoiceRepository.findByCompany(company, pageable);
-            }
-        } else if (status != null) {
-            List<CompanyInvoice> invoiceList = invoiceRepository.findAll();
-            if (startDate != null && endDate != null) {
-                invoiceList = invoiceList.stream()
-                        .filter(inv -> inv.getStatus().equals(status) &&
-                                inv.getDueDate() != null &&
-                                inv.getDueDate().isAfter(startDate) &&
-                                inv.getDueDate().isBefore(endDate))
-                        .toList();
-            } else {
-                invoiceList = invoiceList.stream()
-                        .filter(inv -> inv.getStatus().equals(status))
-                        .toList();
-            }
-            int start = page * size;
-            int end = Math.min(start + size, invoiceList.size());
-            List<CompanyInvoice> paginated = start < invoiceList.size() ? invoiceList.subList(start, end) : List.of();
-            invoices = new org.springframework.data.domain.PageImpl<>(paginated, pageable, invoiceList.size());
-        } else {
-            invoices = invoiceRepository.findAll(pageable);
         }
 
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Specification<CompanyInvoice> filters = Specification
+                .where(CompanyInvoiceSpecifications.belongsTo(company))
+                .and(CompanyInvoiceSpecifications.hasStatus(status))
+                .and(CompanyInvoiceSpecifications.dueBetween(startDate, endDate));
+        Page<CompanyInvoice> invoices = invoiceRepository.findAll(filters, pageable);
+
         List<Map<String, Object>> invoiceResponses = invoices.getContent().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -10,6 +10,8 @@ import com.teckiz.repository.CompanyModuleMapperRepository;
 import com.teckiz.repository.CompanyRepository;
 import com.teckiz.repository.ModuleRepository;
 import com.teckiz.service.ModuleHelperService;
+import com.teckiz.service.ModuleRegistry;
+import com.teckiz.service.TenantResolutionCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,8 @@ public class CompanyModuleController {
     private final ModuleRepository moduleRepository;
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
     private final ModuleHelperService moduleHelperService;
+    private final TenantResolutionCache tenantResolutionCache;
+    private final ModuleRegistry moduleRegistry;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getCompanyModules(@PathVariable String companyKey) {
@@ -79,6 +83,8 @@ public class CompanyModuleController {
                 .build();
 
         companyModuleMapper = companyModuleMapperRepository.save(companyModuleMapper);
+        tenantResolutionCache.evictCompany(company.getId());
+        moduleRegistry.evictCompany(company.getId());
 
         // Add default menus for the module
         moduleHelperService.addMenuToModule(companyModuleMapper);
@@ -107,6 +113,8 @@ public class CompanyModuleController {
         companyModuleMapper.setArchived(true);
         companyModuleMapper.setLive(false);
         companyModuleMapperRepository.save(companyModuleMapper);
+        tenantResolutionCache.evictCompany(company.getId());
+        moduleRegistry.evictCompany(company.getId());
 
         return ResponseEntity.ok(Map.of("message", "Module removed from company successfully"));
     }
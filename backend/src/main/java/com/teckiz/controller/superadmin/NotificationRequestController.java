@@ -5,11 +5,13 @@ import com.teckiz.entity.Company;
 import com.teckiz.entity.NotificationRequest;
 import com.teckiz.repository.CompanyRepository;
 import com.teckiz.repository.NotificationRequestRepository;
+import com.teckiz.repository.NotificationRequestSpecifications;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -38,37 +40,19 @@ public class NotificationRequestController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String targetType) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<NotificationRequest> requests;
-
+        Company company = null;
         if (companyKey != null) {
-            Company company = companyRepository.findByCompanyKey(companyKey)
+            company = companyRepository.findByCompanyKey(companyKey)
                     .orElseThrow(() -> new RuntimeException("Company not found"));
-            if (status != null) {
-                requests = notificationRequestRepository.findByCompanyAndStatus(company, status, pageable);
-            } else {
-                requests = notificationRequestRepository.findByCompany(company, pageable);
-            }
-        } else if (status != null) {
-            List<NotificationRequest> requestList = notificationRequestRepository.findAll();
-            requestList = requestList.stream()
-                    .filter(req -> req.getStatus().equals(status))
-                    .toList();
-            int start = page * size;
-            int end = Math.min(start + size, requestList.size());
-            List<NotificationRequest> paginated = start < requestList.size() ? requestList.subList(start, end) : List.of();
-            requests = new org.springframework.data.domain.PageImpl<>(paginated, pageable, requestList.size());
-        } else {
-            requests = notificationRequestRepository.findAll(pageable);
-        }
-
-        if (targetType != null) {
-            List<NotificationRequest> filtered = requests.getContent().stream()
-                    .filter(req -> targetType.equals(req.getTargetType()))
-                    .toList();
-            requests = new org.springframework.data.domain.PageImpl<>(filtered, pageable, filtered.size());
         }
 
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Specification<NotificationRequest> filters = Specification
+                .where(NotificationRequestSpecifications.belongsTo(company))
+                .and(NotificationRequestSpecifications.hasStatus(status))
+                .and(NotificationRequestSpecifications.hasTargetType(targetType));
+        Page<NotificationRequest> requests = notificationRequestRepository.findAll(filters, pageable);
+
         List<Map<String, Object>> requestResponses = requests.getContent().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -92,19 +76,19 @@ public class NotificationRequestController {
     public ResponseEntity<Map<String, Object>> getPendingRequests(
             @RequestParam(required = false) String companyKey) {
 
-        List<NotificationRequest> pendingRequests;
+        Company company = null;
         if (companyKey != null) {
-            Company company = companyRepository.findByCompanyKey(companyKey)
+            company = companyRepository.findByCompanyKey(companyKey)
                     .orElseThrow(() -> new RuntimeException("Company not found"));
-            pendingRequests = notificationRequestRepository.findByCompanyAndStatusAndScheduledForLessThanEqual(
-                    company, "pending", LocalDateTime.now());
-        } else {
-            pendingRequests = notificationRequestRepository.findAll().stream()
-                    .filter(req -> "pending".equals(req.getStatus()) &&
-                            (req.getScheduledFor() == null || req.getScheduledFor().isBefore(LocalDateTime.now())))
-                    .toList();
         }
 
+        // Served by the (status, scheduled_for) index
+        Specification<NotificationRequest> due = Specification
+                .where(NotificationRequestSpecifications.belongsTo(company))
+                .and(NotificationRequestSpecifications.hasStatus("pending"))
+                .and(NotificationRequestSpecifications.dueBy(LocalDateTime.now()));
+        List<NotificationRequest> pendingRequests = notificationRequestRepository.findAll(due, Sort.by("createdAt"));
+
         List<Map<String, Object>> requestResponses = pendingRequests.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
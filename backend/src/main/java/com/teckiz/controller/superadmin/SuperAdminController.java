@@ -5,6 +5,8 @@ import com.teckiz.entity.Module;
 import com.teckiz.entity.User;
 import com.teckiz.repository.ModuleRepository;
 import com.teckiz.repository.UserRepository;
+import com.teckiz.service.ArticleSearchIndex;
+import com.teckiz.service.ModuleRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +24,8 @@ public class SuperAdminController {
 
     private final UserRepository userRepository;
     private final ModuleRepository moduleRepository;
+    private final ModuleRegistry moduleRegistry;
+    private final ArticleSearchIndex articleSearchIndex;
 
     @GetMapping("/index")
     public ResponseEntity<Map<String, Object>> index() {
@@ -48,6 +52,28 @@ public class SuperAdminController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/modules/reload")
+    public ResponseEntity<Map<String, Object>> reloadModules() {
+        moduleRegistry.reload();
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Module registry reloaded");
+        response.put("modules", moduleRegistry.findAll().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Map<String, Object>> reindexSearch(@RequestParam(required = false) Long companyId) {
+        Map<String, Object> response = new HashMap<>();
+        if (companyId != null) {
+            response.put("documents", articleSearchIndex.reindex(companyId));
+            response.put("companyId", companyId);
+        } else {
+            response.put("companies", articleSearchIndex.reindexAll());
+        }
+        response.put("message", "Article search index rebuilt");
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/users")
     public ResponseEntity<Map<String, Object>> users() {
         List<User> users = userRepository.findAll();
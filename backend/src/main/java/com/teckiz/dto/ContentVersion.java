@@ -0,0 +1,26 @@
+package com.teckiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validator columns of a content row, read instead of the row itself to answer conditional GETs.
+ * updatedAt is the latest change of the row or of the rows embedded in its response.
+ */
+public record ContentVersion(Long id, LocalDateTime updatedAt) {
+
+    /**
+     * Constructor expression for a row and up to two embedded rows, e.g. a type and a poster;
+     * null timestamps of missing rows are ignored
+     */
+    public ContentVersion(Long id, LocalDateTime updatedAt, LocalDateTime embeddedUpdatedAt,
+                          LocalDateTime otherEmbeddedUpdatedAt) {
+        this(id, latest(latest(updatedAt, embeddedUpdatedAt), otherEmbeddedUpdatedAt));
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
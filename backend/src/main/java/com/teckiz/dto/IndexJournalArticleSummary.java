@@ -0,0 +1,29 @@
+package com.teckiz.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public index journal article list item with the journal and volume names joined in.
+ */
+public record IndexJournalArticleSummary(
+        Long id,
+        String articleKey,
+        String title,
+        @JsonProperty("abstract") String abstractText,
+        String keywords,
+        String doi,
+        Integer pageStart,
+        Integer pageEnd,
+        String slug,
+        String thumbnail,
+        Boolean published,
+        LocalDateTime publishedAt,
+        Long indexJournalId,
+        String indexJournalName,
+        Long indexJournalVolumeId,
+        String indexJournalVolumeTitle,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
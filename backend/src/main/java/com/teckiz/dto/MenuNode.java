@@ -0,0 +1,49 @@
+package com.teckiz.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * Immutable menu entry of a module mapper's navigation, selected with a JPQL constructor
+ * expression; sub-menus are attached when MenuTreeService assembles the tree.
+ */
+public record MenuNode(
+        Long id,
+        String menuKey,
+        String name,
+        String routeName,
+        String menuType,
+        Boolean publicMenu,
+        Boolean availableInMainMenu,
+        Boolean availableInFooterMenu,
+        Boolean availableInHomePage,
+        Boolean homePage,
+        Boolean master,
+        String thumbnail,
+        String externalUrl,
+        Boolean newTab,
+        Integer position,
+        Integer subMenuPosition,
+        MainMenu mainMenu,
+        List<MenuNode> subMenus) {
+
+    public MenuNode(Long id, String menuKey, String name, String routeName, String menuType,
+                    Boolean publicMenu, Boolean availableInMainMenu, Boolean availableInFooterMenu,
+                    Boolean availableInHomePage, Boolean homePage, Boolean master,
+                    String thumbnail, String externalUrl, Boolean newTab, Integer position, Integer subMenuPosition,
+                    Long mainMenuId, String mainMenuKey, String mainMenuName) {
+        this(id, menuKey, name, routeName, menuType, publicMenu, availableInMainMenu, availableInFooterMenu,
+                availableInHomePage, homePage, master, thumbnail, externalUrl, newTab, position, subMenuPosition,
+                mainMenuId != null ? new MainMenu(mainMenuId, mainMenuKey, mainMenuName) : null, List.of());
+    }
+
+    public MenuNode withSubMenus(List<MenuNode> subMenus) {
+        return new MenuNode(id, menuKey, name, routeName, menuType, publicMenu, availableInMainMenu,
+                availableInFooterMenu, availableInHomePage, homePage, master, thumbnail, externalUrl, newTab,
+                position, subMenuPosition, mainMenu, List.copyOf(subMenus));
+    }
+
+    public record MainMenu(@JsonIgnore Long id, String menuKey, String name) {
+    }
+}
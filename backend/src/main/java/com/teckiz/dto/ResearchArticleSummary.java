@@ -0,0 +1,55 @@
+package com.teckiz.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Public research article list item. Selected with a JPQL constructor expression joined to
+ * the volume; authors are attached afterwards from one query for the whole page.
+ */
+public record ResearchArticleSummary(
+        Long id,
+        String articleKey,
+        String title,
+        String englishTitle,
+        String slug,
+        @JsonProperty("abstract") String abstractText,
+        String keywords,
+        String discipline,
+        String language,
+        String pageNumber,
+        Integer startPage,
+        Integer endPage,
+        LocalDateTime publishedAt,
+        String thumbnail,
+        List<Author> authors,
+        Volume volume,
+        LocalDateTime createdAt) {
+
+    public ResearchArticleSummary(Long id, String articleKey, String title, String englishTitle, String slug,
+                                  String abstractText, String keywords, String discipline, String language,
+                                  String pageNumber, Integer startPage, Integer endPage,
+                                  LocalDateTime publishedAt, String thumbnail,
+                                  Long volumeId, String volumeTitle, Integer volumeNumber, Integer issueNumber,
+                                  LocalDateTime createdAt) {
+        this(id, articleKey, title, englishTitle, slug, abstractText, keywords, discipline, language,
+                pageNumber, startPage, endPage, publishedAt, thumbnail, List.of(),
+                volumeId != null ? new Volume(volumeId, volumeTitle, volumeNumber, issueNumber) : null,
+                createdAt);
+    }
+
+    public ResearchArticleSummary withAuthors(List<Author> authors) {
+        return new ResearchArticleSummary(id, articleKey, title, englishTitle, slug, abstractText, keywords,
+                discipline, language, pageNumber, startPage, endPage, publishedAt, thumbnail, authors,
+                volume, createdAt);
+    }
+
+    public record Volume(Long id, String title, Integer volumeNumber, Integer issueNumber) {
+    }
+
+    public record Author(@JsonIgnore Long articleId, String name, String email, String orcid, Integer position) {
+    }
+}
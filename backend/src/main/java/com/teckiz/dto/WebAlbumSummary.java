@@ -0,0 +1,17 @@
+package com.teckiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public album list item
+ */
+public record WebAlbumSummary(
+        Long id,
+        String albumKey,
+        String title,
+        String slug,
+        String description,
+        Boolean carousal,
+        LocalDateTime publishedAt,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,18 @@
+package com.teckiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public event list item; description, embed code and contacts are only returned by the detail endpoint.
+ */
+public record WebEventSummary(
+        Long id,
+        String eventKey,
+        String title,
+        String slug,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String location,
+        String coordinates,
+        String thumbnail) {
+}
@@ -0,0 +1,30 @@
+package com.teckiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public news list item, selected with a JPQL constructor expression; the body is only
+ * returned by the detail endpoint.
+ */
+public record WebNewsSummary(
+        Long id,
+        String newsKey,
+        String title,
+        String slug,
+        String shortDescription,
+        LocalDateTime publishedAt,
+        Boolean carousel,
+        String thumbnail,
+        NewsType newsType,
+        LocalDateTime createdAt) {
+
+    public WebNewsSummary(Long id, String newsKey, String title, String slug, String shortDescription,
+                          LocalDateTime publishedAt, Boolean carousel, String thumbnail,
+                          Long newsTypeId, String newsTypeName, LocalDateTime createdAt) {
+        this(id, newsKey, title, slug, shortDescription, publishedAt, carousel, thumbnail,
+                newsTypeId != null ? new NewsType(newsTypeId, newsTypeName) : null, createdAt);
+    }
+
+    public record NewsType(Long id, String name) {
+    }
+}
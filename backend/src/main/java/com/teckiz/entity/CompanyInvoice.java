@@ -13,7 +13,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "CompanyInvoice")
+@Table(name = "CompanyInvoice", indexes = {
+    @Index(name = "company_invoice_status_due_index", columnList = "status, due_date"),
+    @Index(name = "company_invoice_company_created_index", columnList = "company_id, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
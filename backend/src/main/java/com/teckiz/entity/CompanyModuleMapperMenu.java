@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.MenuTreeListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MenuTreeListener.class)
 @Table(name = "CompanyModuleMapperMenu")
 @Data
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.ArticleSearchIndexListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,7 +13,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "IndexJournalArticle")
+@EntityListeners(ArticleSearchIndexListener.class)
+@Table(name = "IndexJournalArticle", indexes = {
+    @Index(name = "index_journal_article_feed_index", columnList = "index_journal_id, is_published, is_archived, published_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,7 +12,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "NotificationRequest")
+@Table(name = "NotificationRequest", indexes = {
+    @Index(name = "notification_request_status_scheduled_index", columnList = "status, scheduled_for"),
+    @Index(name = "notification_request_company_created_index", columnList = "company_id, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.ArticleSearchIndexListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -14,10 +15,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ArticleSearchIndexListener.class)
 @Table(name = "ResearchArticle", indexes = {
     @Index(name = "research_article_page_index", columnList = "article_key, status"),
     @Index(name = "research_article_search_index", columnList = "title, discipline, keywords"),
-    @Index(name = "research_article_list_status_index", columnList = "status")
+    @Index(name = "research_article_list_status_index", columnList = "status"),
+    @Index(name = "research_article_company_created_index", columnList = "company_id, created_at"),
+    @Index(name = "research_article_company_status_created_index", columnList = "company_id, status, created_at"),
+    @Index(name = "research_article_company_type_created_index", columnList = "company_id, research_article_type_id, created_at"),
+    @Index(name = "research_article_company_volume_created_index", columnList = "company_id, research_journal_volume_id, created_at"),
+    @Index(name = "research_article_feed_index", columnList = "company_id, is_published, published_at, id")
 })
 @Data
 @NoArgsConstructor
@@ -81,14 +88,18 @@ public class ResearchArticle {
     @Builder.Default
     private String status = INCOMPLETE;
 
-    @Column(name = "downloads", length = 50)
-    private String downloads;
+    // Counters are incremented in SQL by ResearchArticleCounterService, never written back from the entity
+    @Column(name = "downloads", nullable = false, updatable = false)
+    @Builder.Default
+    private Long downloads = 0L;
 
-    @Column(name = "views", length = 50)
-    private String views;
+    @Column(name = "views", nullable = false, updatable = false)
+    @Builder.Default
+    private Long views = 0L;
 
-    @Column(name = "visits", length = 50)
-    private String visits;
+    @Column(name = "visits", nullable = false, updatable = false)
+    @Builder.Default
+    private Long visits = 0L;
 
     @Column(name = "title", length = 255)
     private String title;
@@ -38,6 +38,18 @@ public class ResearchRelatedMedia {
     @Builder.Default
     private Boolean poster = false;
 
+    @Column(name = "derivative_status", length = 20)
+    private String derivativeStatus;
+
+    @Column(name = "thumbnail_small", columnDefinition = "TEXT")
+    private String thumbnailSmall;
+
+    @Column(name = "thumbnail_medium", columnDefinition = "TEXT")
+    private String thumbnailMedium;
+
+    @Column(name = "thumbnail_large", columnDefinition = "TEXT")
+    private String thumbnailLarge;
+
     @Column(name = "file_name", length = 255)
     private String fileName;
 
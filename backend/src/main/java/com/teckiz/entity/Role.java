@@ -6,6 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -16,6 +20,8 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role")
+@NaturalIdCache(region = "role-natural-id")
 public class Role {
 
     public static final String ROLE_SUPER_ADMIN = "ROLE_SUPER_ADMIN";
@@ -31,6 +37,7 @@ public class Role {
     @Column(name = "name", length = 255)
     private String name;
 
+    @NaturalId
     @Column(name = "role_key", length = 255, nullable = false)
     private String roleKey;
 
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "Statistics", indexes = {
     @Index(name = "statistics_date_index", columnList = "recorded_at"),
-    @Index(name = "statistics_type_index", columnList = "stat_type, company_id")
+    @Index(name = "statistics_type_index", columnList = "stat_type, company_id"),
+    @Index(name = "statistics_company_type_date_index", columnList = "company_id, stat_type, recorded_at")
 })
 @Data
 @NoArgsConstructor
@@ -70,6 +71,11 @@ public class Statistics {
     @Column(name = "recorded_at", updatable = false)
     private LocalDateTime recordedAt;
 
+    // Database clock at insert; the rollup aggregator only folds rows older than its grace period
+    @Column(name = "inserted_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime insertedAt;
+
     @PrePersist
     protected void onCreate() {
         if (statKey == null) {
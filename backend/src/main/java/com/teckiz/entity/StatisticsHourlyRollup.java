@@ -0,0 +1,51 @@
+package com.teckiz.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hourly pre-aggregated Statistics counts, maintained by StatisticsRollupService.
+ * Null entity type/id are stored as '' and 0 so the unique key can be used for upserts.
+ */
+@Entity
+@Table(name = "StatisticsHourlyRollup", uniqueConstraints = {
+    @UniqueConstraint(name = "statistics_hourly_rollup_unique",
+            columnNames = {"company_id", "stat_type", "bucket_start", "entity_type", "entity_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsHourlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @Column(name = "stat_type", length = 100, nullable = false)
+    private String statType;
+
+    @Column(name = "entity_type", length = 100, nullable = false)
+    @Builder.Default
+    private String entityType = "";
+
+    @Column(name = "entity_id", nullable = false)
+    @Builder.Default
+    private Long entityId = 0L;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    @Builder.Default
+    private Long eventCount = 0L;
+}
@@ -0,0 +1,32 @@
+package com.teckiz.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Highest Statistics id folded into the rollup tables
+ */
+@Entity
+@Table(name = "StatisticsRollupWatermark")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsRollupWatermark {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_statistics_id", nullable = false)
+    @Builder.Default
+    private Long lastStatisticsId = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
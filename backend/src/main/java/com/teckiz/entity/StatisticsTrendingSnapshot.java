@@ -0,0 +1,42 @@
+package com.teckiz.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized trending (top-K) state of one company and stat type, written periodically
+ * by TrendingTracker so sliding windows survive restarts.
+ */
+@Entity
+@Table(name = "StatisticsTrendingSnapshot", uniqueConstraints = {
+    @UniqueConstraint(name = "statistics_trending_snapshot_unique", columnNames = {"company_id", "stat_type"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsTrendingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @Column(name = "stat_type", length = 100, nullable = false)
+    private String statType;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.teckiz.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily HyperLogLog sketch of unique visitors for an entity, maintained by UniqueVisitorService.
+ * Site-wide visitors are stored with entity type '' and entity id 0.
+ */
+@Entity
+@Table(name = "StatisticsVisitorSketch", uniqueConstraints = {
+    @UniqueConstraint(name = "statistics_visitor_sketch_unique",
+            columnNames = {"company_id", "entity_type", "entity_id", "bucket_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsVisitorSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @Column(name = "entity_type", length = 100, nullable = false)
+    @Builder.Default
+    private String entityType = "";
+
+    @Column(name = "entity_id", nullable = false)
+    @Builder.Default
+    private Long entityId = 0L;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "sketch", columnDefinition = "VARBINARY(4096)", nullable = false)
+    private byte[] sketch;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
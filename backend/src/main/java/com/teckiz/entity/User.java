@@ -64,6 +64,10 @@ public class User {
     @Builder.Default
     private Boolean isDeactive = false;
 
+    // Tokens issued before this instant are rejected; written only by UserStatusCache.revoke
+    @Column(name = "tokens_valid_after", insertable = false, updatable = false)
+    private LocalDateTime tokensValidAfter;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Profile profile;
 
@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.WebsiteContentListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(WebsiteContentListener.class)
 @Table(name = "WebAlbum", indexes = {
     @Index(name = "web_album_slug", columnList = "slug")
 })
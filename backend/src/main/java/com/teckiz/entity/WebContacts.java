@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.WebsiteContentListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(WebsiteContentListener.class)
 @Table(name = "WebContacts")
 @Data
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.WebsiteContentListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -14,9 +15,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(WebsiteContentListener.class)
 @Table(name = "WebNews", indexes = {
     @Index(name = "web_news_slug", columnList = "slug"),
-    @Index(name = "web_news_key_index", columnList = "news_key, published_at")
+    @Index(name = "web_news_key_index", columnList = "news_key, published_at"),
+    @Index(name = "web_news_feed_index", columnList = "company_id, is_published, is_archived, published_at, id")
 })
 @Data
 @NoArgsConstructor
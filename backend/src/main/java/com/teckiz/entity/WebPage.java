@@ -1,5 +1,6 @@
 package com.teckiz.entity;
 
+import com.teckiz.service.WebsiteContentListener;
 import com.teckiz.util.UtilHelper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(WebsiteContentListener.class)
 @Table(name = "WebPage", indexes = {
     @Index(name = "web_page_slug_index", columnList = "slug")
 })
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -38,6 +39,18 @@ public class WebRelatedMedia {
     @Builder.Default
     private Boolean poster = false;
 
+    @Column(name = "derivative_status", length = 20)
+    private String derivativeStatus;
+
+    @Column(name = "thumbnail_small", columnDefinition = "TEXT")
+    private String thumbnailSmall;
+
+    @Column(name = "thumbnail_medium", columnDefinition = "TEXT")
+    private String thumbnailMedium;
+
+    @Column(name = "thumbnail_large", columnDefinition = "TEXT")
+    private String thumbnailLarge;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     private Company company;
@@ -46,6 +59,10 @@ public class WebRelatedMedia {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         if (relatedMediaKey == null) {
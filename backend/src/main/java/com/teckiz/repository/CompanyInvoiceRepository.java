@@ -5,6 +5,7 @@ import com.teckiz.entity.CompanyInvoice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -12,7 +13,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CompanyInvoiceRepository extends JpaRepository<CompanyInvoice, Long> {
+public interface CompanyInvoiceRepository extends JpaRepository<CompanyInvoice, Long>,
+        JpaSpecificationExecutor<CompanyInvoice> {
 
     Optional<CompanyInvoice> findByInvoiceKey(String invoiceKey);
 
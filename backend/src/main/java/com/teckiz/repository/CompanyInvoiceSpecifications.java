@@ -0,0 +1,51 @@
+package com.teckiz.repository;
+
+import com.teckiz.entity.Company;
+import com.teckiz.entity.CompanyInvoice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for the superadmin invoice listing.
+ * Missing arguments yield a null specification, which Specification.where/and ignore.
+ */
+public final class CompanyInvoiceSpecifications {
+
+    private CompanyInvoiceSpecifications() {
+    }
+
+    public static Specification<CompanyInvoice> belongsTo(Company company) {
+        if (company == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("company"), company);
+    }
+
+    public static Specification<CompanyInvoice> hasStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Due date within [start, end); either bound may be omitted
+     */
+    public static Specification<CompanyInvoice> dueBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null && end == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (start == null) {
+                return cb.lessThan(root.get("dueDate"), end);
+            }
+            if (end == null) {
+                return cb.greaterThanOrEqualTo(root.get("dueDate"), start);
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("dueDate"), start),
+                    cb.lessThan(root.get("dueDate"), end));
+        };
+    }
+}
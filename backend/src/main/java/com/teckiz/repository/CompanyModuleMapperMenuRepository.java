@@ -1,8 +1,11 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.MenuNode;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.CompanyModuleMapperMenu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -33,5 +36,12 @@ public interface CompanyModuleMapperMenuRepository extends JpaRepository<Company
 
     List<CompanyModuleMapperMenu> findByCompanyModuleMapperAndPublicMenuTrueAndMasterFalseAndAvailableInHomePageTrueOrderByPositionAsc(
             CompanyModuleMapper companyModuleMapper);
-}
 
+    // Every menu of a module mapper in one query, parent joined in; MenuTreeService nests them
+    @Query("SELECT new com.teckiz.dto.MenuNode(m.id, m.menuKey, m.name, m.routeName, m.menuType, m.publicMenu, " +
+           "m.availableInMainMenu, m.availableInFooterMenu, m.availableInHomePage, m.homePage, m.master, " +
+           "m.thumbnail, m.externalUrl, m.newTab, m.position, m.subMenuPosition, p.id, p.menuKey, p.name) " +
+           "FROM CompanyModuleMapperMenu m LEFT JOIN m.mainMenu p " +
+           "WHERE m.companyModuleMapper.id = :companyModuleMapperId")
+    List<MenuNode> findMenuNodes(@Param("companyModuleMapperId") Long companyModuleMapperId);
+}
@@ -37,6 +37,12 @@ public interface CompanyModuleMapperRepository extends JpaRepository<CompanyModu
 
     List<CompanyModuleMapper> findByModuleAndArchivedFalse(Module module);
 
+    @Query("SELECT cmm.module.id, cmm.id FROM CompanyModuleMapper cmm " +
+           "WHERE cmm.company.id = :companyId " +
+           "AND cmm.archived = false " +
+           "ORDER BY cmm.id ASC")
+    List<Object[]> findModuleMapperIdsByCompanyId(@Param("companyId") Long companyId);
+
     Optional<CompanyModuleMapper> findByModuleMapperKeyAndArchivedFalse(String moduleMapperKey);
 }
 
@@ -3,16 +3,17 @@ package com.teckiz.repository;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.EmailTemplate;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EmailTemplateRepository extends JpaRepository<EmailTemplate, Long> {
+public interface EmailTemplateRepository extends NaturalIdRepository<EmailTemplate, Long> {
 
-    Optional<EmailTemplate> findByTemplateKey(String templateKey);
+    default Optional<EmailTemplate> findByTemplateKey(String templateKey) {
+        return findBySimpleNaturalId(templateKey);
+    }
 
     Optional<EmailTemplate> findByTemplateType(String templateType);
 
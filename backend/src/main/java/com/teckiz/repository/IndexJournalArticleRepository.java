@@ -1,5 +1,7 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.ContentVersion;
+import com.teckiz.dto.IndexJournalArticleSummary;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.IndexJournal;
 import com.teckiz.entity.IndexJournalArticle;
@@ -7,8 +9,11 @@ import com.teckiz.entity.IndexJournalVolume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,5 +44,62 @@ public interface IndexJournalArticleRepository extends JpaRepository<IndexJourna
 
     Page<IndexJournalArticle> findByCompanyAndIndexJournalVolumeAndPublishedTrueAndArchivedFalse(
             Company company, IndexJournalVolume volume, Pageable pageable);
-}
 
+    // Validators for conditional GETs of the public detail endpoint, which embeds the journal and volume names
+    @Query("SELECT new com.teckiz.dto.ContentVersion(a.id, a.updatedAt, j.updatedAt, v.updatedAt) " +
+           "FROM IndexJournalArticle a LEFT JOIN a.indexJournal j LEFT JOIN a.indexJournalVolume v " +
+           "WHERE a.articleKey = :articleKey AND a.company = :company AND a.published = true AND a.archived = false")
+    Optional<ContentVersion> findPublishedVersionByArticleKey(@Param("articleKey") String articleKey,
+                                                              @Param("company") Company company);
+
+    // Public list projection: only the columns the list needs, journal and volume joined in
+    String SUMMARY_SELECT = "SELECT new com.teckiz.dto.IndexJournalArticleSummary(a.id, a.articleKey, a.title, " +
+           "a.abstractText, a.keywords, a.doi, a.pageStart, a.pageEnd, a.slug, a.thumbnail, a.published, " +
+           "a.publishedAt, j.id, j.name, v.id, v.title, a.createdAt, a.updatedAt) " +
+           "FROM IndexJournalArticle a JOIN a.indexJournal j LEFT JOIN a.indexJournalVolume v ";
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.company = :company AND a.indexJournal = :journal " +
+           "AND a.published = true AND a.archived = false " +
+           "AND (:volume IS NULL OR a.indexJournalVolume = :volume) " +
+           "ORDER BY a.createdAt DESC",
+           countQuery = "SELECT COUNT(a) FROM IndexJournalArticle a WHERE a.company = :company " +
+           "AND a.indexJournal = :journal AND a.published = true AND a.archived = false " +
+           "AND (:volume IS NULL OR a.indexJournalVolume = :volume)")
+    Page<IndexJournalArticleSummary> findPublishedSummaries(@Param("company") Company company,
+                                                             @Param("journal") IndexJournal journal,
+                                                             @Param("volume") IndexJournalVolume volume,
+                                                             Pageable pageable);
+
+    // Keyset feed: (publishedAt DESC, id DESC), undated articles last; limit through Pageable
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.indexJournal = :journal " +
+           "AND a.published = true AND a.archived = false " +
+           "AND (:volume IS NULL OR a.indexJournalVolume = :volume) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<IndexJournalArticleSummary> findPublishedFeed(@Param("company") Company company,
+                                                       @Param("journal") IndexJournal journal,
+                                                       @Param("volume") IndexJournalVolume volume,
+                                                       Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.indexJournal = :journal " +
+           "AND a.published = true AND a.archived = false " +
+           "AND (:volume IS NULL OR a.indexJournalVolume = :volume) " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id) OR a.publishedAt IS NULL) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<IndexJournalArticleSummary> findPublishedFeedAfter(@Param("company") Company company,
+                                                            @Param("journal") IndexJournal journal,
+                                                            @Param("volume") IndexJournalVolume volume,
+                                                            @Param("publishedAt") LocalDateTime publishedAt,
+                                                            @Param("id") Long id,
+                                                            Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.indexJournal = :journal " +
+           "AND a.published = true AND a.archived = false " +
+           "AND (:volume IS NULL OR a.indexJournalVolume = :volume) " +
+           "AND a.publishedAt IS NULL AND a.id < :id " +
+           "ORDER BY a.id DESC")
+    List<IndexJournalArticleSummary> findUndatedFeedAfter(@Param("company") Company company,
+                                                          @Param("journal") IndexJournal journal,
+                                                          @Param("volume") IndexJournalVolume volume,
+                                                          @Param("id") Long id,
+                                                          Pageable limit);
+}
@@ -1,14 +1,13 @@
 package com.teckiz.repository;
 
 import com.teckiz.entity.Module;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ModuleRepository extends JpaRepository<Module, Long> {
+public interface ModuleRepository extends NaturalIdRepository<Module, Long> {
 
     List<Module> findByArchivedFalse();
 
@@ -16,6 +15,9 @@ public interface ModuleRepository extends JpaRepository<Module, Long> {
 
     Optional<Module> findByName(String name);
 
-    Optional<Module> findByModuleKeyAndArchivedFalse(String moduleKey);
+    default Optional<Module> findByModuleKeyAndArchivedFalse(String moduleKey) {
+        return findBySimpleNaturalId(moduleKey)
+                .filter(module -> Boolean.FALSE.equals(module.getArchived()));
+    }
 }
 
@@ -0,0 +1,36 @@
+package com.teckiz.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Repository base class (see TeckizApplication) adding natural-id lookups to SimpleJpaRepository;
+ * only repositories extending NaturalIdRepository expose them.
+ */
+public class NaturalIdJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+    private final Class<T> domainClass;
+
+    public NaturalIdJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+        this.domainClass = entityInformation.getJavaType();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<T> findBySimpleNaturalId(Object naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(domainClass)
+                .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.teckiz.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Optional;
+
+/**
+ * Repository for entities with a simple {@code @NaturalId}. Lookups go through Hibernate's
+ * natural-id and second-level caches instead of running a query each time.
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+
+    Optional<T> findBySimpleNaturalId(Object naturalId);
+}
@@ -6,6 +6,7 @@ import com.teckiz.entity.NotificationRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -13,7 +14,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NotificationRequestRepository extends JpaRepository<NotificationRequest, Long> {
+public interface NotificationRequestRepository extends JpaRepository<NotificationRequest, Long>,
+        JpaSpecificationExecutor<NotificationRequest> {
 
     Optional<NotificationRequest> findByRequestKey(String requestKey);
 
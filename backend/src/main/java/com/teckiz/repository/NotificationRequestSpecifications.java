@@ -0,0 +1,47 @@
+package com.teckiz.repository;
+
+import com.teckiz.entity.Company;
+import com.teckiz.entity.NotificationRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for the superadmin notification request listing.
+ * Missing arguments yield a null specification, which Specification.where/and ignore.
+ */
+public final class NotificationRequestSpecifications {
+
+    private NotificationRequestSpecifications() {
+    }
+
+    public static Specification<NotificationRequest> belongsTo(Company company) {
+        if (company == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("company"), company);
+    }
+
+    public static Specification<NotificationRequest> hasStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<NotificationRequest> hasTargetType(String targetType) {
+        if (targetType == null || targetType.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("targetType"), targetType);
+    }
+
+    /**
+     * Requests that are unscheduled or scheduled at or before the given time
+     */
+    public static Specification<NotificationRequest> dueBy(LocalDateTime time) {
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("scheduledFor")),
+                cb.lessThanOrEqualTo(root.get("scheduledFor"), time));
+    }
+}
@@ -5,16 +5,17 @@ import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.ProgramLevelType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProgramLevelTypeRepository extends JpaRepository<ProgramLevelType, Long> {
+public interface ProgramLevelTypeRepository extends NaturalIdRepository<ProgramLevelType, Long> {
 
-    Optional<ProgramLevelType> findByTypeKey(String typeKey);
+    default Optional<ProgramLevelType> findByTypeKey(String typeKey) {
+        return findBySimpleNaturalId(typeKey);
+    }
 
     List<ProgramLevelType> findByCompany(Company company);
 
@@ -1,10 +1,14 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.ResearchArticleSummary;
 import com.teckiz.entity.ResearchArticle;
 import com.teckiz.entity.ResearchArticleAuthorMapper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +20,12 @@ public interface ResearchArticleAuthorMapperRepository extends JpaRepository<Res
     List<ResearchArticleAuthorMapper> findByResearchArticle(ResearchArticle article);
 
     List<ResearchArticleAuthorMapper> findByResearchArticleAndArchivedFalse(ResearchArticle article);
+
+    // Authors of a page of public list items, in one query
+    @Query("SELECT new com.teckiz.dto.ResearchArticleSummary$Author(m.researchArticle.id, au.name, au.email, " +
+           "au.orcid, m.position) FROM ResearchArticleAuthorMapper m LEFT JOIN m.researchArticleAuthor au " +
+           "WHERE m.researchArticle.id IN :articleIds AND (m.archived IS NULL OR m.archived = false) " +
+           "ORDER BY m.position ASC")
+    List<ResearchArticleSummary.Author> findAuthorSummaries(@Param("articleIds") Collection<Long> articleIds);
 }
 
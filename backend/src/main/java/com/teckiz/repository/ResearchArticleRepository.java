@@ -1,20 +1,25 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.ResearchArticleSummary;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.ResearchArticle;
 import com.teckiz.entity.ResearchJournalVolume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ResearchArticleRepository extends JpaRepository<ResearchArticle, Long> {
+public interface ResearchArticleRepository extends JpaRepository<ResearchArticle, Long>,
+        JpaSpecificationExecutor<ResearchArticle> {
 
     Optional<ResearchArticle> findByArticleKey(String articleKey);
 
@@ -40,5 +45,42 @@ public interface ResearchArticleRepository extends JpaRepository<ResearchArticle
            "AND a.published = true " +
            "AND (a.title LIKE %:search% OR a.abstractText LIKE %:search% OR a.keywords LIKE %:search%)")
     List<ResearchArticle> searchPublishedArticles(@Param("company") Company company, @Param("search") String search);
+
+    // Public list projection: only the columns the list needs, volume joined in; authors come from
+    // ResearchArticleAuthorMapperRepository.findAuthorSummaries
+    String SUMMARY_SELECT = "SELECT new com.teckiz.dto.ResearchArticleSummary(a.id, a.articleKey, a.title, " +
+           "a.englishTitle, a.slug, a.abstractText, a.keywords, a.discipline, a.language, a.pageNumber, " +
+           "a.startPage, a.endPage, a.publishedAt, a.thumbnail, v.id, v.title, v.volumeNumber, v.issueNumber, " +
+           "a.createdAt) FROM ResearchArticle a LEFT JOIN a.researchJournalVolume v ";
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.company = :company AND a.published = true " +
+           "AND (:volume IS NULL OR a.researchJournalVolume = :volume) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM ResearchArticle a WHERE a.company = :company AND a.published = true " +
+           "AND (:volume IS NULL OR a.researchJournalVolume = :volume)")
+    Page<ResearchArticleSummary> findPublishedSummaries(@Param("company") Company company,
+                                                        @Param("volume") ResearchJournalVolume volume,
+                                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids AND a.published = true")
+    List<ResearchArticleSummary> findPublishedSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset feed: (publishedAt DESC, id DESC), undated articles last; limit through Pageable
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.published = true " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ResearchArticleSummary> findPublishedFeed(@Param("company") Company company, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.published = true " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id) OR a.publishedAt IS NULL) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ResearchArticleSummary> findPublishedFeedAfter(@Param("company") Company company,
+                                                        @Param("publishedAt") LocalDateTime publishedAt,
+                                                        @Param("id") Long id,
+                                                        Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.published = true " +
+           "AND a.publishedAt IS NULL AND a.id < :id " +
+           "ORDER BY a.id DESC")
+    List<ResearchArticleSummary> findUndatedFeedAfter(@Param("company") Company company, @Param("id") Long id, Pageable limit);
 }
 
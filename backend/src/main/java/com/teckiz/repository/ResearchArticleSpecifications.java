@@ -0,0 +1,54 @@
+package com.teckiz.repository;
+
+import com.teckiz.entity.Company;
+import com.teckiz.entity.ResearchArticle;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable filters for ResearchArticle listings.
+ * Blank arguments yield a null specification, which Specification.where/and ignore.
+ */
+public final class ResearchArticleSpecifications {
+
+    private ResearchArticleSpecifications() {
+    }
+
+    public static Specification<ResearchArticle> belongsTo(Company company) {
+        return (root, query, cb) -> cb.equal(root.get("company"), company);
+    }
+
+    public static Specification<ResearchArticle> hasStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<ResearchArticle> hasArticleType(String articleTypeKey) {
+        if (articleTypeKey == null || articleTypeKey.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.join("researchArticleType").get("typeKey"), articleTypeKey);
+    }
+
+    public static Specification<ResearchArticle> inVolume(String volumeKey) {
+        if (volumeKey == null || volumeKey.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.join("researchJournalVolume").get("volumeKey"), volumeKey);
+    }
+
+    public static Specification<ResearchArticle> titleContains(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(search.trim()) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern, '\\'),
+                cb.like(root.get("englishTitle"), pattern, '\\'));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -3,16 +3,17 @@ package com.teckiz.repository;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.StoryType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StoryTypeRepository extends JpaRepository<StoryType, Long> {
+public interface StoryTypeRepository extends NaturalIdRepository<StoryType, Long> {
 
-    Optional<StoryType> findByTypeKey(String typeKey);
+    default Optional<StoryType> findByTypeKey(String typeKey) {
+        return findBySimpleNaturalId(typeKey);
+    }
 
     List<StoryType> findByCompany(Company company);
 
@@ -3,6 +3,7 @@ package com.teckiz.repository;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.User;
 import com.teckiz.entity.UserCompanyRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,8 +45,7 @@ public interface UserCompanyRoleRepository extends JpaRepository<UserCompanyRole
     List<UserCompanyRole> findCompanyUsersWithPagination(
             @Param("company") Company company,
             @Param("searchKey") String searchKey,
-            @Param("offset") int offset,
-            @Param("limit") int limit
+            Pageable pageable
     );
 }
 
@@ -3,6 +3,7 @@ package com.teckiz.repository;
 import com.teckiz.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,5 +22,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByIsEnabledTrue();
 
     Optional<User> findOneByEmail(String email);
+
+    @Query("SELECT u.isEnabled, u.isDeactive, u.tokensValidAfter FROM User u WHERE u.email = :email")
+    List<Object[]> findStatusByEmail(@Param("email") String email);
 }
 
@@ -1,10 +1,14 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.ContentVersion;
+import com.teckiz.dto.WebAlbumSummary;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.WebAlbum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,5 +28,23 @@ public interface WebAlbumRepository extends JpaRepository<WebAlbum, Long> {
     Page<WebAlbum> findByCompanyAndPublishedTrueAndArchivedFalse(Company company, Pageable pageable);
 
     List<WebAlbum> findByCompanyAndCarousalTrueAndPublishedTrue(Company company);
+
+    // Validators for conditional GETs of the public detail endpoint
+    @Query("SELECT new com.teckiz.dto.ContentVersion(a.id, a.updatedAt) FROM WebAlbum a " +
+           "WHERE a.slug = :slug AND a.company = :company AND a.published = true AND a.archived = false")
+    Optional<ContentVersion> findPublishedVersionBySlug(@Param("slug") String slug, @Param("company") Company company);
+
+    // Public list projection
+    String SUMMARY_SELECT = "SELECT new com.teckiz.dto.WebAlbumSummary(a.id, a.albumKey, a.title, a.slug, " +
+           "a.description, a.carousal, a.publishedAt, a.createdAt) FROM WebAlbum a ";
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.company = :company AND a.published = true AND a.archived = false " +
+           "ORDER BY a.createdAt DESC",
+           countQuery = "SELECT COUNT(a) FROM WebAlbum a " +
+           "WHERE a.company = :company AND a.published = true AND a.archived = false")
+    Page<WebAlbumSummary> findPublishedAlbums(@Param("company") Company company, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.company = :company AND a.carousal = true AND a.published = true")
+    List<WebAlbumSummary> findCarouselAlbums(@Param("company") Company company);
 }
 
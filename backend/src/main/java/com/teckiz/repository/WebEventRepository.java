@@ -1,5 +1,6 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.WebEventSummary;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.WebEvent;
 import org.springframework.data.domain.Page;
@@ -26,16 +27,20 @@ public interface WebEventRepository extends JpaRepository<WebEvent, Long> {
 
     Page<WebEvent> findByCompanyAndPublishedTrueAndArchivedFalse(Company company, Pageable pageable);
 
-    @Query("SELECT e FROM WebEvent e WHERE e.company = :company " +
+    // Public list projection: only the columns the list needs, poster joined in
+    String SUMMARY_SELECT = "SELECT new com.teckiz.dto.WebEventSummary(e.id, e.eventKey, e.title, e.slug, " +
+           "e.startDate, e.endDate, e.location, e.coordinates, p.location) " +
+           "FROM WebEvent e LEFT JOIN e.poster p ";
+
+    @Query(SUMMARY_SELECT + "WHERE e.company = :company " +
            "AND e.published = true AND e.archived = false " +
            "AND e.endDate >= :now " +
            "ORDER BY e.startDate ASC")
-    List<WebEvent> findUpcomingEvents(@Param("company") Company company, @Param("now") LocalDateTime now);
+    List<WebEventSummary> findUpcomingEvents(@Param("company") Company company, @Param("now") LocalDateTime now);
 
-    @Query("SELECT e FROM WebEvent e WHERE e.company = :company " +
+    @Query(SUMMARY_SELECT + "WHERE e.company = :company " +
            "AND e.published = true AND e.archived = false " +
            "AND e.endDate < :now " +
            "ORDER BY e.endDate DESC")
-    List<WebEvent> findPastEvents(@Param("company") Company company, @Param("now") LocalDateTime now);
+    List<WebEventSummary> findPastEvents(@Param("company") Company company, @Param("now") LocalDateTime now);
 }
-
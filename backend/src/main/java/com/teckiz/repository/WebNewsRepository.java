@@ -1,5 +1,6 @@
 package com.teckiz.repository;
 
+import com.teckiz.dto.WebNewsSummary;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.WebNews;
 import org.springframework.data.domain.Page;
@@ -32,6 +33,48 @@ public interface WebNewsRepository extends JpaRepository<WebNews, Long> {
            "ORDER BY n.publishedAt DESC")
     List<WebNews> findPublishedNews(@Param("company") Company company, @Param("now") LocalDateTime now);
 
+    // Public list projection: only the columns the list needs, poster and type joined in
+    String SUMMARY_SELECT = "SELECT new com.teckiz.dto.WebNewsSummary(n.id, n.newsKey, n.title, n.slug, " +
+           "n.shortDescription, n.publishedAt, n.carousel, p.location, t.id, t.name, n.createdAt) " +
+           "FROM WebNews n LEFT JOIN n.poster p LEFT JOIN n.webNewsType t ";
+
+    @Query(value = SUMMARY_SELECT + "WHERE n.company = :company " +
+           "AND n.published = true AND n.archived = false " +
+           "AND (n.publishedAt IS NULL OR n.publishedAt <= :now) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM WebNews n WHERE n.company = :company " +
+           "AND n.published = true AND n.archived = false " +
+           "AND (n.publishedAt IS NULL OR n.publishedAt <= :now)")
+    Page<WebNewsSummary> findPublishedNews(@Param("company") Company company, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Keyset feed: (publishedAt DESC, id DESC), undated news last; limit through Pageable
+    @Query(SUMMARY_SELECT + "WHERE n.company = :company " +
+           "AND n.published = true AND n.archived = false " +
+           "AND (n.publishedAt IS NULL OR n.publishedAt <= :now) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<WebNewsSummary> findPublishedNewsFeed(@Param("company") Company company, @Param("now") LocalDateTime now, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE n.company = :company " +
+           "AND n.published = true AND n.archived = false " +
+           "AND (n.publishedAt IS NULL OR n.publishedAt <= :now) " +
+           "AND (n.publishedAt < :publishedAt OR (n.publishedAt = :publishedAt AND n.id < :id) OR n.publishedAt IS NULL) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<WebNewsSummary> findPublishedNewsFeedAfter(@Param("company") Company company,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("publishedAt") LocalDateTime publishedAt,
+                                                    @Param("id") Long id,
+                                                    Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE n.company = :company " +
+           "AND n.published = true AND n.archived = false " +
+           "AND n.publishedAt IS NULL AND n.id < :id " +
+           "ORDER BY n.id DESC")
+    List<WebNewsSummary> findUndatedNewsFeedAfter(@Param("company") Company company, @Param("id") Long id,
+                                                  Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE n.company = :company AND n.carousel = true AND n.published = true")
+    List<WebNewsSummary> findCarouselNews(@Param("company") Company company);
+
     List<WebNews> findByCompanyAndCarouselTrueAndPublishedTrue(Company company);
 }
 
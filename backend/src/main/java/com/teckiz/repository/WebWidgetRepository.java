@@ -4,6 +4,8 @@ import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.WebWidget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +24,11 @@ public interface WebWidgetRepository extends JpaRepository<WebWidget, Long> {
 
     List<WebWidget> findByCompanyModuleMapperAndActiveTrue(CompanyModuleMapper companyModuleMapper);
 
+    // Active widgets with their contents fetched in the same query
+    @Query("SELECT DISTINCT w FROM WebWidget w LEFT JOIN FETCH w.contents " +
+           "WHERE w.companyModuleMapper = :companyModuleMapper AND w.active = true")
+    List<WebWidget> findActiveWithContents(@Param("companyModuleMapper") CompanyModuleMapper companyModuleMapper);
+
     List<WebWidget> findByCompanyModuleMapperAndPosition(CompanyModuleMapper companyModuleMapper, String position);
 }
 
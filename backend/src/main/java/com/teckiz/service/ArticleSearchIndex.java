@@ -0,0 +1,577 @@
+package com.teckiz.service;
+
+import com.teckiz.util.TextAnalyzer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Per-tenant in-process inverted index over published ResearchArticle and IndexJournalArticle rows.
+ * Documents are analyzed with TextAnalyzer, ranked with BM25 (title and keywords weighted above the
+ * abstract) and support quoted phrase queries through term positions. A tenant's index is opened on
+ * first use from its segment file on local disk, or rebuilt from the database when the segment is
+ * missing or its fingerprint no longer matches. Writes on this instance are applied right away by
+ * ArticleSearchIndexListener; every app.search.flush-interval-ms the fingerprint of each open tenant
+ * is checked against the database and the index rebuilt when it moved, which also picks up writes
+ * made through other instances.
+ */
+@Slf4j
+@Service
+public class ArticleSearchIndex {
+
+    public enum DocType { RESEARCH_ARTICLE, INDEX_JOURNAL_ARTICLE }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double KEYWORDS_WEIGHT = 2.0;
+    private static final double TEXT_WEIGHT = 1.0;
+    // Position gap between fields so phrases never match across them
+    private static final int FIELD_GAP = 1000;
+    private static final int SEGMENT_VERSION = 1;
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]+)\"");
+
+    private static final String RESEARCH_ARTICLE_FILTER = "company_id = ? AND is_published = 1";
+    private static final String INDEX_JOURNAL_ARTICLE_FILTER =
+            "company_id = ? AND is_published = 1 AND (is_archived = 0 OR is_archived IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+
+    private final Map<Long, TenantIndex> indexes = new ConcurrentHashMap<>();
+
+    public ArticleSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.search.index-dir:search-index}") String directory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Indexable content of one article
+     */
+    public record Document(DocType type, Long entityId, Long companyId,
+                           String title, String subtitle, String keywords, String text) {
+    }
+
+    public record Hit(DocType type, Long entityId, double score) {
+    }
+
+    public record Results(long total, List<Hit> hits) {
+    }
+
+    /**
+     * Rank the tenant's documents against a query; terms are OR-ed, quoted phrases must match
+     * @param type optional document type filter
+     */
+    public Results search(Long companyId, String query, DocType type, int offset, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return new Results(0, List.of());
+        }
+
+        List<PhraseTerm[]> phrases = new ArrayList<>();
+        Matcher matcher = PHRASE.matcher(query);
+        while (matcher.find()) {
+            List<PhraseTerm> phrase = new ArrayList<>();
+            TextAnalyzer.analyze(matcher.group(1), (term, position) -> phrase.add(new PhraseTerm(term, position)));
+            if (phrase.size() > 1) {
+                phrases.add(phrase.toArray(new PhraseTerm[0]));
+            }
+        }
+        List<String> terms = TextAnalyzer.terms(query.replace('"', ' '));
+        if (terms.isEmpty()) {
+            return new Results(0, List.of());
+        }
+
+        return tenant(companyId).search(terms, phrases, type, offset, limit);
+    }
+
+    /**
+     * Add or replace a document in its tenant's index; unpublished documents are removed instead
+     */
+    public void index(Document document, boolean searchable) {
+        TenantIndex index = indexes.get(document.companyId());
+        if (index == null) {
+            // Not opened yet: the fingerprint check picks the change up when it is
+            return;
+        }
+        DocKey key = new DocKey(document.type(), document.entityId());
+        if (searchable) {
+            index.put(key, document);
+        } else {
+            index.remove(key);
+        }
+    }
+
+    public void remove(DocType type, Long entityId, Long companyId) {
+        TenantIndex index = indexes.get(companyId);
+        if (index != null) {
+            index.remove(new DocKey(type, entityId));
+        }
+    }
+
+    /**
+     * Rebuild a tenant's index from the database and write its segment
+     * @return number of indexed documents
+     */
+    public int reindex(Long companyId) {
+        TenantIndex index = build(companyId);
+        indexes.put(companyId, index);
+        persist(companyId, index);
+        return index.size();
+    }
+
+    /**
+     * Rebuild the index of every company that has published articles
+     * @return number of reindexed companies
+     */
+    public int reindexAll() {
+        List<Long> companyIds = jdbcTemplate.queryForList(
+                "SELECT company_id FROM ResearchArticle WHERE is_published = 1 " +
+                        "UNION SELECT company_id FROM IndexJournalArticle WHERE is_published = 1", Long.class);
+        for (Long companyId : companyIds) {
+            reindex(companyId);
+        }
+        log.info("Reindexed articles of {} companies", companyIds.size());
+        return companyIds.size();
+    }
+
+    /**
+     * Rebuild the open indexes whose tenant changed since they were built, and write the segments.
+     * Local writes move the fingerprint too, so a tenant with writes is rebuilt once per interval;
+     * the fingerprint queries run once per open tenant here rather than on every save.
+     */
+    @Scheduled(fixedDelayString = "${app.search.flush-interval-ms:60000}",
+            initialDelayString = "${app.search.flush-interval-ms:60000}")
+    public void refreshSegments() {
+        indexes.forEach((companyId, index) -> {
+            try {
+                if (!fingerprint(companyId).equals(index.fingerprint)) {
+                    TenantIndex rebuilt = build(companyId);
+                    if (indexes.replace(companyId, index, rebuilt)) {
+                        persist(companyId, rebuilt);
+                    }
+                } else if (index.isDirty()) {
+                    persist(companyId, index);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh search index of company {}: {}", companyId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Write the changed segments as they are; one with local writes keeps the fingerprint it was
+     * built from, so it is rebuilt when next opened
+     */
+    @PreDestroy
+    void shutdown() {
+        indexes.forEach((companyId, index) -> {
+            if (index.isDirty()) {
+                persist(companyId, index);
+            }
+        });
+    }
+
+    /**
+     * Opened outside the map so a rebuild does not block the map bin; when two requests race to open
+     * the same tenant the first one installed wins
+     */
+    private TenantIndex tenant(Long companyId) {
+        TenantIndex index = indexes.get(companyId);
+        if (index != null) {
+            return index;
+        }
+        TenantIndex opened = open(companyId);
+        TenantIndex existing = indexes.putIfAbsent(companyId, opened);
+        return existing != null ? existing : opened;
+    }
+
+    private TenantIndex open(Long companyId) {
+        Fingerprint current = fingerprint(companyId);
+        Path segment = segmentPath(companyId);
+        if (Files.exists(segment)) {
+            try {
+                TenantIndex index = read(segment);
+                if (index != null && current.equals(index.fingerprint)) {
+                    log.debug("Opened search segment of company {} ({} documents)", companyId, index.size());
+                    return index;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Discarding unreadable search segment {}: {}", segment, e.getMessage());
+            }
+        }
+
+        TenantIndex index = build(companyId);
+        index.markDirty();
+        return index;
+    }
+
+    private TenantIndex build(Long companyId) {
+        TenantIndex index = new TenantIndex();
+        // Taken before reading the documents: a change committed meanwhile makes the segment stale
+        index.fingerprint = fingerprint(companyId);
+
+        jdbcTemplate.query("SELECT id, title, english_title, keywords, abstract FROM ResearchArticle WHERE "
+                        + RESEARCH_ARTICLE_FILTER,
+                rs -> {
+                    Document document = new Document(DocType.RESEARCH_ARTICLE, rs.getLong("id"), companyId,
+                            rs.getString("title"), rs.getString("english_title"),
+                            rs.getString("keywords"), rs.getString("abstract"));
+                    index.put(new DocKey(document.type(), document.entityId()), document);
+                },
+                companyId);
+        jdbcTemplate.query("SELECT id, title, sub_title, keywords, abstract_text FROM IndexJournalArticle WHERE "
+                        + INDEX_JOURNAL_ARTICLE_FILTER,
+                rs -> {
+                    Document document = new Document(DocType.INDEX_JOURNAL_ARTICLE, rs.getLong("id"), companyId,
+                            rs.getString("title"), rs.getString("sub_title"),
+                            rs.getString("keywords"), rs.getString("abstract_text"));
+                    index.put(new DocKey(document.type(), document.entityId()), document);
+                },
+                companyId);
+
+        log.info("Built search index of company {} with {} documents", companyId, index.size());
+        return index;
+    }
+
+    /**
+     * Count and last update of the tenant's searchable rows, used to detect stale segments
+     */
+    private Fingerprint fingerprint(Long companyId) {
+        return new Fingerprint(
+                jdbcTemplate.queryForObject("SELECT CONCAT(COUNT(*), '@', COALESCE(MAX(updated_at), '')) " +
+                        "FROM ResearchArticle WHERE " + RESEARCH_ARTICLE_FILTER, String.class, companyId),
+                jdbcTemplate.queryForObject("SELECT CONCAT(COUNT(*), '@', COALESCE(MAX(updated_at), '')) " +
+                        "FROM IndexJournalArticle WHERE " + INDEX_JOURNAL_ARTICLE_FILTER, String.class, companyId));
+    }
+
+    private Path segmentPath(Long companyId) {
+        return directory.resolve(companyId + ".seg");
+    }
+
+    private void persist(Long companyId, TenantIndex index) {
+        Path segment = segmentPath(companyId);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, companyId + "-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                index.write(out);
+            }
+            Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            index.markDirty();
+            log.error("Failed to write search segment {}: {}", segment, e.getMessage(), e);
+        }
+    }
+
+    private TenantIndex read(Path segment) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            if (in.readInt() != SEGMENT_VERSION) {
+                return null;
+            }
+            TenantIndex index = new TenantIndex();
+            index.read(in);
+            return index;
+        }
+    }
+
+    private record DocKey(DocType type, Long entityId) {
+    }
+
+    private record PhraseTerm(String term, int position) {
+    }
+
+    private record Fingerprint(String researchArticles, String indexJournalArticles) {
+    }
+
+    private record Posting(double weight, int[] positions) {
+    }
+
+    private record Doc(DocKey key, double length, Map<String, Posting> terms) {
+    }
+
+    private record Scored(DocKey key, double score) {
+    }
+
+    /**
+     * Postings and forward index of one tenant, guarded by a read/write lock
+     */
+    private static final class TenantIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<DocKey, Doc> docs = new HashMap<>();
+        private final Map<String, Map<DocKey, Posting>> postings = new HashMap<>();
+        private double totalLength;
+        private volatile boolean dirty;
+        // Database state the index was built from; set before the index is shared
+        private Fingerprint fingerprint;
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return docs.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean isDirty() {
+            return dirty;
+        }
+
+        void markDirty() {
+            dirty = true;
+        }
+
+        void put(DocKey key, Document document) {
+            Map<String, PostingBuilder> builders = new LinkedHashMap<>();
+            int[] offset = {0};
+            for (Object[] field : new Object[][]{
+                    {document.title(), TITLE_WEIGHT},
+                    {document.subtitle(), TITLE_WEIGHT},
+                    {document.keywords(), KEYWORDS_WEIGHT},
+                    {document.text(), TEXT_WEIGHT}}) {
+                double weight = (Double) field[1];
+                int base = offset[0];
+                TextAnalyzer.analyze((String) field[0], (term, position) -> {
+                    builders.computeIfAbsent(term, t -> new PostingBuilder()).add(weight, base + position);
+                    offset[0] = Math.max(offset[0], base + position + 1);
+                });
+                offset[0] += FIELD_GAP;
+            }
+
+            Map<String, Posting> terms = new HashMap<>(builders.size() * 2);
+            double length = 0;
+            for (Map.Entry<String, PostingBuilder> entry : builders.entrySet()) {
+                Posting posting = entry.getValue().build();
+                terms.put(entry.getKey(), posting);
+                length += posting.weight();
+            }
+
+            lock.writeLock().lock();
+            try {
+                removeLocked(key);
+                add(new Doc(key, length, terms));
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(DocKey key) {
+            lock.writeLock().lock();
+            try {
+                if (removeLocked(key)) {
+                    dirty = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void add(Doc doc) {
+            docs.put(doc.key(), doc);
+            doc.terms().forEach((term, posting) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.key(), posting));
+            totalLength += doc.length();
+        }
+
+        private boolean removeLocked(DocKey key) {
+            Doc doc = docs.remove(key);
+            if (doc == null) {
+                return false;
+            }
+            for (String term : doc.terms().keySet()) {
+                Map<DocKey, Posting> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(key);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= doc.length();
+            return true;
+        }
+
+        Results search(List<String> terms, List<PhraseTerm[]> phrases, DocType type, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                int documentCount = docs.size();
+                if (documentCount == 0) {
+                    return new Results(0, List.of());
+                }
+                double averageLength = totalLength / documentCount;
+
+                // BM25 accumulation touches only the postings of the query terms
+                Map<DocKey, Double> scores = new HashMap<>();
+                for (String term : terms.stream().distinct().toList()) {
+                    Map<DocKey, Posting> termPostings = postings.get(term);
+                    if (termPostings == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                    termPostings.forEach((key, posting) -> {
+                        if (type != null && key.type() != type) {
+                            return;
+                        }
+                        double length = docs.get(key).length();
+                        double tf = posting.weight();
+                        double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                        scores.merge(key, score, Double::sum);
+                    });
+                }
+
+                PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+                int wanted = offset + limit;
+                long total = 0;
+                for (Map.Entry<DocKey, Double> entry : scores.entrySet()) {
+                    if (!phrases.isEmpty() && !matchesPhrases(entry.getKey(), phrases)) {
+                        continue;
+                    }
+                    total++;
+                    top.offer(new Scored(entry.getKey(), entry.getValue()));
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+
+                List<Scored> ranked = new ArrayList<>(top);
+                ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+                List<Hit> hits = ranked.stream()
+                        .skip(offset)
+                        .map(scored -> new Hit(scored.key().type(), scored.key().entityId(), scored.score()))
+                        .toList();
+                return new Results(total, hits);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private boolean matchesPhrases(DocKey key, List<PhraseTerm[]> phrases) {
+            Map<String, Posting> terms = docs.get(key).terms();
+            for (PhraseTerm[] phrase : phrases) {
+                if (!matchesPhrase(terms, phrase)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean matchesPhrase(Map<String, Posting> terms, PhraseTerm[] phrase) {
+            Posting[] phrasePostings = new Posting[phrase.length];
+            for (int i = 0; i < phrase.length; i++) {
+                phrasePostings[i] = terms.get(phrase[i].term());
+                if (phrasePostings[i] == null) {
+                    return false;
+                }
+            }
+            for (int start : phrasePostings[0].positions()) {
+                boolean matched = true;
+                for (int i = 1; i < phrase.length && matched; i++) {
+                    int expected = start + phrase[i].position() - phrase[0].position();
+                    matched = Arrays.binarySearch(phrasePostings[i].positions(), expected) >= 0;
+                }
+                if (matched) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            lock.readLock().lock();
+            try {
+                dirty = false;
+                out.writeInt(SEGMENT_VERSION);
+                out.writeUTF(fingerprint.researchArticles());
+                out.writeUTF(fingerprint.indexJournalArticles());
+                out.writeInt(docs.size());
+                for (Doc doc : docs.values()) {
+                    out.writeByte(doc.key().type().ordinal());
+                    out.writeLong(doc.key().entityId());
+                    out.writeInt(doc.terms().size());
+                    for (Map.Entry<String, Posting> entry : doc.terms().entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeDouble(entry.getValue().weight());
+                        int[] positions = entry.getValue().positions();
+                        out.writeInt(positions.length);
+                        for (int position : positions) {
+                            out.writeInt(position);
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void read(DataInputStream in) throws IOException {
+            fingerprint = new Fingerprint(in.readUTF(), in.readUTF());
+            int documentCount = in.readInt();
+            DocType[] types = DocType.values();
+            for (int d = 0; d < documentCount; d++) {
+                DocKey key = new DocKey(types[in.readByte()], in.readLong());
+                int termCount = in.readInt();
+                Map<String, Posting> terms = new HashMap<>(termCount * 2);
+                double length = 0;
+                for (int t = 0; t < termCount; t++) {
+                    String term = in.readUTF();
+                    double weight = in.readDouble();
+                    int[] positions = new int[in.readInt()];
+                    for (int p = 0; p < positions.length; p++) {
+                        positions[p] = in.readInt();
+                    }
+                    terms.put(term, new Posting(weight, positions));
+                    length += weight;
+                }
+                add(new Doc(key, length, terms));
+            }
+        }
+    }
+
+    private static final class PostingBuilder {
+
+        private double weight;
+        private int[] positions = new int[4];
+        private int count;
+
+        void add(double fieldWeight, int position) {
+            weight += fieldWeight;
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+        }
+
+        Posting build() {
+            return new Posting(weight, Arrays.copyOf(positions, count));
+        }
+    }
+}
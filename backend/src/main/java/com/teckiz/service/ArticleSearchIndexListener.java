@@ -0,0 +1,67 @@
+package com.teckiz.service;
+
+import com.teckiz.entity.IndexJournalArticle;
+import com.teckiz.entity.ResearchArticle;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener keeping ArticleSearchIndex in step with saved and deleted articles.
+ * Index changes are applied after the surrounding transaction commits.
+ */
+@Component
+public class ArticleSearchIndexListener {
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    public ArticleSearchIndexListener(@Lazy ArticleSearchIndex articleSearchIndex) {
+        this.articleSearchIndex = articleSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof ResearchArticle article && article.getCompany() != null) {
+            ArticleSearchIndex.Document document = new ArticleSearchIndex.Document(
+                    ArticleSearchIndex.DocType.RESEARCH_ARTICLE, article.getId(), article.getCompany().getId(),
+                    article.getTitle(), article.getEnglishTitle(), article.getKeywords(), article.getAbstractText());
+            boolean searchable = Boolean.TRUE.equals(article.getPublished());
+            afterCommit(() -> articleSearchIndex.index(document, searchable));
+        } else if (entity instanceof IndexJournalArticle article && article.getCompany() != null) {
+            ArticleSearchIndex.Document document = new ArticleSearchIndex.Document(
+                    ArticleSearchIndex.DocType.INDEX_JOURNAL_ARTICLE, article.getId(), article.getCompany().getId(),
+                    article.getTitle(), article.getSubTitle(), article.getKeywords(), article.getAbstractText());
+            boolean searchable = Boolean.TRUE.equals(article.getPublished()) && !Boolean.TRUE.equals(article.getArchived());
+            afterCommit(() -> articleSearchIndex.index(document, searchable));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof ResearchArticle article && article.getCompany() != null) {
+            Long companyId = article.getCompany().getId();
+            afterCommit(() -> articleSearchIndex.remove(ArticleSearchIndex.DocType.RESEARCH_ARTICLE, article.getId(), companyId));
+        } else if (entity instanceof IndexJournalArticle article && article.getCompany() != null) {
+            Long companyId = article.getCompany().getId();
+            afterCommit(() -> articleSearchIndex.remove(ArticleSearchIndex.DocType.INDEX_JOURNAL_ARTICLE, article.getId(), companyId));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
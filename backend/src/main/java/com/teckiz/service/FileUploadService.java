@@ -1,24 +1,40 @@
 package com.teckiz.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
-
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores uploads on local disk or in S3. With the S3 async client configured, uploads stream from
+ * their source into S3; bodies of at least app.aws.s3.multipart.threshold-bytes are split into
+ * parts uploaded concurrently, each part retried on its own. Every S3 upload records its size,
+ * time and throughput under file.upload.s3.*, tagged single or multipart.
+ */
 @Slf4j
 @Service
 public class FileUploadService {
@@ -35,13 +51,40 @@ public class FileUploadService {
     @Value("${file.upload.use-s3:false}")
     private Boolean useS3;
 
+    @Value("${app.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${app.aws.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
     private S3Client s3Client; // Optional - can be null if S3 not configured
 
+    private S3AsyncClient s3AsyncClient; // Optional - null when multipart uploads are disabled
+
+    private final MeterRegistry meterRegistry;
+
+    // Reads upload streams into the async client; the reads block, so each gets a virtual thread
+    private final ExecutorService streamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FileUploadService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Autowired(required = false)
     public void setS3Client(@Nullable S3Client s3Client) {
         this.s3Client = s3Client; // Can be null if S3 not configured
     }
 
+    @Autowired(required = false)
+    public void setS3AsyncClient(@Nullable S3AsyncClient s3AsyncClient) {
+        this.s3AsyncClient = s3AsyncClient;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
     /**
      * Upload file to S3 or local storage
      * @param file MultipartFile to upload
@@ -58,48 +101,151 @@ public class FileUploadService {
             ? folder + "/" + fileName 
             : fileName;
 
-        if (useS3 && s3Client != null) {
-            return uploadToS3(file, filePath);
+        if (useS3 && s3AsyncClient != null) {
+            // Streamed from the multipart input without an intermediate copy
+            try (InputStream in = file.getInputStream()) {
+                return uploadToS3Async(AsyncRequestBody.fromInputStream(in, file.getSize(), streamExecutor),
+                        file.getSize(), file.getContentType(), filePath);
+            }
+        } else if (useS3 && s3Client != null) {
+            return uploadToS3(RequestBody.fromInputStream(file.getInputStream(), file.getSize()),
+                    file.getSize(), file.getContentType(), filePath);
         } else {
-            return uploadToLocal(file, filePath);
+            try (InputStream in = file.getInputStream()) {
+                return uploadToLocal(in, filePath);
+            }
         }
     }
 
     /**
-     * Upload file to S3
+     * Upload a file already on local disk, e.g. an upload spooled for further processing
+     * @param originalFilename Name the stored file name is generated from
+     * @return URL/path to uploaded file
      */
-    private String uploadToS3(MultipartFile file, String filePath) throws IOException {
-        try {
-            String contentType = file.getContentType();
-            if (contentType == null) {
-                contentType = "application/octet-stream";
+    public String uploadFile(Path source, String originalFilename, String contentType, String folder) throws IOException {
+        String fileName = generateFileName(originalFilename);
+        String filePath = folder != null && !folder.isEmpty()
+            ? folder + "/" + fileName
+            : fileName;
+
+        if (useS3 && s3AsyncClient != null) {
+            return uploadToS3Async(AsyncRequestBody.fromFile(source), Files.size(source), contentType, filePath);
+        } else if (useS3 && s3Client != null) {
+            return uploadToS3(RequestBody.fromFile(source), Files.size(source), contentType, filePath);
+        } else {
+            try (InputStream in = Files.newInputStream(source)) {
+                return uploadToLocal(in, filePath);
             }
+        }
+    }
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .contentType(contentType)
-                    .build();
+    /**
+     * Store generated content under an exact path, replacing what is there
+     * @param filePath Path in bucket/storage (e.g., "media/thumbnails/photo_small.jpg")
+     * @return URL/path to stored file
+     */
+    public String uploadBytes(byte[] content, String contentType, String filePath) throws IOException {
+        if (useS3 && s3Client != null) {
+            return uploadToS3(RequestBody.fromBytes(content), content.length, contentType, filePath);
+        } else {
+            Path targetPath = Paths.get(localUploadPath).resolve(filePath);
+            Files.createDirectories(targetPath.getParent());
+            Files.write(targetPath, content);
+            return "/uploads/" + filePath;
+        }
+    }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
+    /**
+     * Upload file to S3
+     */
+    private String uploadToS3(RequestBody body, long size, String contentType, String filePath) throws IOException {
+        long start = System.nanoTime();
+        try {
+            s3Client.putObject(putObjectRequest(contentType, filePath), body);
 
-            String url = String.format("https://%s.s3.%s.amazonaws.com/%s", 
-                    bucketName, region, filePath);
-            
+            String url = objectUrl(filePath);
+            recordUpload("single", "success", size, start);
             log.info("File uploaded to S3: {}", url);
             return url;
 
         } catch (S3Exception e) {
+            recordUpload("single", "failure", size, start);
             log.error("Error uploading file to S3: {}", e.getMessage(), e);
             throw new IOException("Failed to upload file to S3: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Upload file to S3 with the async client, as a concurrent multipart upload when the body
+     * reaches the multipart threshold. A failed multipart upload is aborted by the client.
+     */
+    private String uploadToS3Async(AsyncRequestBody body, long size, String contentType, String filePath)
+            throws IOException {
+        String mode = size >= multipartThresholdBytes ? "multipart" : "single";
+        long start = System.nanoTime();
+        try {
+            s3AsyncClient.putObject(putObjectRequest(contentType, filePath), body).join();
+
+            String url = objectUrl(filePath);
+            recordUpload(mode, "success", size, start);
+            log.info("File uploaded to S3 ({}, {} bytes): {}", mode, size, url);
+            return url;
+
+        } catch (CompletionException e) {
+            recordUpload(mode, "failure", size, start);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Error uploading file to S3: {}", cause.getMessage(), cause);
+            throw new IOException("Failed to upload file to S3: " + cause.getMessage(), cause);
+        }
+    }
+
+    private PutObjectRequest putObjectRequest(String contentType, String filePath) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(filePath)
+                .contentType(contentType != null ? contentType : "application/octet-stream")
+                .build();
+    }
+
+    /**
+     * Public URL of an object: virtual-hosted AWS style, or endpoint/bucket/key for an S3-compatible endpoint
+     */
+    private String objectUrl(String filePath) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucketName, filePath);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s",
+                bucketName, region, filePath);
+    }
+
+    private void recordUpload(String mode, String outcome, long size, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder("file.upload.s3.time")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!"success".equals(outcome)) {
+            return;
+        }
+        DistributionSummary.builder("file.upload.s3.size")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(size);
+        if (elapsedNanos > 0) {
+            DistributionSummary.builder("file.upload.s3.throughput")
+                    .baseUnit("bytes_per_second")
+                    .tag("mode", mode)
+                    .register(meterRegistry)
+                    .record(size * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+
     /**
      * Upload file to local storage
      */
-    private String uploadToLocal(MultipartFile file, String filePath) throws IOException {
+    private String uploadToLocal(InputStream in, String filePath) throws IOException {
         try {
             Path uploadDir = Paths.get(localUploadPath);
             if (!Files.exists(uploadDir)) {
@@ -112,7 +258,7 @@ public class FileUploadService {
             }
 
             Path targetPath = uploadDir.resolve(filePath);
-            Files.copy(file.getInputStream(), targetPath);
+            Files.copy(in, targetPath);
 
             String url = "/uploads/" + filePath;
             log.info("File uploaded locally: {}", targetPath);
@@ -148,6 +294,8 @@ public class FileUploadService {
             String key = filePath;
             if (filePath.contains("amazonaws.com/")) {
                 key = filePath.substring(filePath.indexOf("amazonaws.com/") + 14);
+            } else if (!endpoint.isBlank() && filePath.startsWith(objectUrl(""))) {
+                key = filePath.substring(objectUrl("").length());
             }
 
             s3Client.deleteObject(DeleteObjectRequest.builder()
@@ -0,0 +1,271 @@
+package com.teckiz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background thumbnail derivatives of uploaded images.
+ * The upload is spooled to local disk once, stored, and handed to a bounded worker pool after the
+ * media row is committed, so the request returns as soon as the original is stored. A worker
+ * decodes the image once and downsamples it progressively (large, medium, small), each size
+ * encoded and stored on the encoder pool while the next one is being scaled. Progress is recorded
+ * in the media row's derivative_status; when the queue is full the job is rejected and marked failed.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    public static final String STATUS_PENDING = "pending";
+    public static final String STATUS_PROCESSING = "processing";
+    public static final String STATUS_READY = "ready";
+    public static final String STATUS_FAILED = "failed";
+
+    /**
+     * Media tables with derivative columns
+     */
+    public enum MediaTable {
+        WEB_RELATED_MEDIA("WebRelatedMedia"),
+        RESEARCH_RELATED_MEDIA("ResearchRelatedMedia");
+
+        private final String table;
+
+        MediaTable(String table) {
+            this.table = table;
+        }
+    }
+
+    private final ImageProcessingService imageProcessingService;
+    private final FileUploadService fileUploadService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path spoolDirectory;
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService encoders;
+    private final MeterRegistry meterRegistry;
+    private final Timer jobTime;
+
+    public ImageDerivativeService(
+            ImageProcessingService imageProcessingService,
+            FileUploadService fileUploadService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.derivatives.workers:2}") int workers,
+            @Value("${app.image.derivatives.queue-capacity:100}") int queueCapacity,
+            @Value("${app.image.derivatives.encoder-threads:3}") int encoderThreads,
+            @Value("${app.image.derivatives.spool-dir:}") String spoolDirectory) {
+        this.imageProcessingService = imageProcessingService;
+        this.fileUploadService = fileUploadService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.spoolDirectory = spoolDirectory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "teckiz-derivatives")
+                : Paths.get(spoolDirectory);
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-derivatives-", 0).daemon(true).factory());
+        this.encoders = Executors.newFixedThreadPool(encoderThreads,
+                Thread.ofPlatform().name("image-encoder-", 0).daemon(true).factory());
+        this.meterRegistry = meterRegistry;
+        this.jobTime = Timer.builder("image.derivatives.time")
+                .register(meterRegistry);
+        Gauge.builder("image.derivatives.queue", this.workers, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Copy an upload to the spool directory, to be stored and then processed from local disk
+     */
+    public Path spool(MultipartFile file) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path source = Files.createTempFile(spoolDirectory, "upload-", ".tmp");
+        try {
+            file.transferTo(source);
+        } catch (IOException e) {
+            discard(source);
+            throw e;
+        }
+        return source;
+    }
+
+    /**
+     * Delete a spooled upload that will not be processed
+     */
+    public void discard(Path source) {
+        if (source == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(source);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled upload {}: {}", source, e.getMessage());
+        }
+    }
+
+    /**
+     * Generate the derivatives of a stored image once the current transaction commits. The media row
+     * must have been saved with STATUS_PENDING; the spooled source is deleted when the job ends.
+     * @param location URL/path the original was stored at, derivatives are named after it
+     * @param folder folder the original was stored in; derivatives go to its thumbnails sub-folder
+     */
+    public void schedule(MediaTable table, Long mediaId, Path source, String location, String folder,
+                         String originalFilename) {
+        Job job = new Job(table, mediaId, source, location, folder, originalFilename);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job);
+                }
+            });
+        } else {
+            submit(job);
+        }
+    }
+
+    /**
+     * Delete the stored derivatives of a media row
+     */
+    public void deleteDerivatives(String... locations) {
+        for (String location : locations) {
+            try {
+                fileUploadService.deleteFile(location);
+            } catch (IOException e) {
+                log.warn("Failed to delete derivative {}: {}", location, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        encoders.shutdown();
+        // Jobs still queued lose their spooled source with the instance
+        for (Runnable queued : workers.shutdownNow()) {
+            if (queued instanceof Job job) {
+                job.fail("shutdown");
+            }
+        }
+    }
+
+    private void submit(Job job) {
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            log.warn("Derivative queue full, not processing {} {}", job.table.table, job.mediaId);
+            job.fail("rejected");
+        }
+    }
+
+    private void record(String outcome) {
+        Counter.builder("image.derivatives.jobs")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private final class Job implements Runnable {
+
+        private final MediaTable table;
+        private final Long mediaId;
+        private final Path source;
+        private final String location;
+        private final String folder;
+        private final String originalFilename;
+
+        private Job(MediaTable table, Long mediaId, Path source, String location, String folder,
+                    String originalFilename) {
+            this.table = table;
+            this.mediaId = mediaId;
+            this.source = source;
+            this.location = location;
+            this.folder = folder;
+            this.originalFilename = originalFilename;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                jdbcTemplate.update("UPDATE " + table.table + " SET derivative_status = ? WHERE id = ?",
+                        STATUS_PROCESSING, mediaId);
+
+                BufferedImage original = ImageIO.read(source.toFile());
+                if (original == null) {
+                    throw new IOException("Unsupported image format");
+                }
+                String format = imageProcessingService.getImageFormat(originalFilename);
+                Map<ImageProcessingService.ThumbnailSize, CompletableFuture<String>> stored =
+                        new EnumMap<>(ImageProcessingService.ThumbnailSize.class);
+                imageProcessingService.resizeProgressively(original, (size, image) -> stored.put(size,
+                        CompletableFuture.supplyAsync(() -> store(image, size, format), encoders)));
+                CompletableFuture.allOf(stored.values().toArray(CompletableFuture[]::new)).join();
+
+                jdbcTemplate.update("UPDATE " + table.table + " SET derivative_status = ?, thumbnail_small = ?, " +
+                                "thumbnail_medium = ?, thumbnail_large = ? WHERE id = ?",
+                        STATUS_READY,
+                        stored.get(ImageProcessingService.ThumbnailSize.SMALL).join(),
+                        stored.get(ImageProcessingService.ThumbnailSize.MEDIUM).join(),
+                        stored.get(ImageProcessingService.ThumbnailSize.LARGE).join(),
+                        mediaId);
+                record(STATUS_READY);
+            } catch (Exception e) {
+                log.warn("Failed to generate derivatives of {} {}: {}", table.table, mediaId, e.getMessage());
+                fail(STATUS_FAILED);
+            } finally {
+                discard(source);
+                jobTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private String store(BufferedImage image, ImageProcessingService.ThumbnailSize size, String format) {
+            String fileName = location.substring(location.lastIndexOf('/') + 1);
+            int dot = fileName.lastIndexOf('.');
+            String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+            String extension = dot > 0 ? fileName.substring(dot) : "." + format;
+            try {
+                return fileUploadService.uploadBytes(imageProcessingService.encode(image, format),
+                        "image/" + ("jpg".equals(format) ? "jpeg" : format),
+                        folder + "/thumbnails/" + baseName + "_" + size.getSuffix() + extension);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void fail(String outcome) {
+            try {
+                jdbcTemplate.update("UPDATE " + table.table + " SET derivative_status = ? WHERE id = ?",
+                        STATUS_FAILED, mediaId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to mark derivatives of {} {} as failed: {}", table.table, mediaId, e.getMessage());
+            }
+            if (!STATUS_FAILED.equals(outcome)) {
+                discard(source);
+            }
+            record(outcome);
+        }
+    }
+}
@@ -8,18 +8,44 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageProcessingService {
 
+    /**
+     * Derivative sizes, largest first so each can be downsampled from the previous one
+     */
+    public enum ThumbnailSize {
+        LARGE(600, "large"),
+        MEDIUM(300, "medium"),
+        SMALL(150, "small");
+
+        private final int maxSize;
+        private final String suffix;
+
+        ThumbnailSize(int maxSize, String suffix) {
+            this.maxSize = maxSize;
+            this.suffix = suffix;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+    }
+
     @Value("${file.upload.local-path:uploads}")
     private String localUploadPath;
 
@@ -154,7 +180,7 @@ public class ImageProcessingService {
     /**
      * Get image format from filename
      */
-    private String getImageFormat(String filename) {
+    String getImageFormat(String filename) {
         if (filename == null) {
             return "jpg";
         }
@@ -183,22 +209,58 @@ public class ImageProcessingService {
         String baseName = basePath.substring(0, basePath.lastIndexOf('.'));
         String extension = basePath.substring(basePath.lastIndexOf('.'));
 
-        // Small thumbnail (150x150)
-        BufferedImage small = Scalr.resize(originalImage, Scalr.Method.QUALITY,
-                Scalr.Mode.AUTOMATIC, 150, 150, Scalr.OP_ANTIALIAS);
-        String smallPath = saveThumbnail(small, baseName + "_small" + extension, format);
+        Map<ThumbnailSize, String> paths = new EnumMap<>(ThumbnailSize.class);
+        for (Map.Entry<ThumbnailSize, BufferedImage> derivative : resizeProgressively(originalImage).entrySet()) {
+            paths.put(derivative.getKey(), saveThumbnail(derivative.getValue(),
+                    baseName + "_" + derivative.getKey().getSuffix() + extension, format));
+        }
+        return new ThumbnailSet(paths.get(ThumbnailSize.SMALL), paths.get(ThumbnailSize.MEDIUM),
+                paths.get(ThumbnailSize.LARGE));
+    }
 
-        // Medium thumbnail (300x300)
-        BufferedImage medium = Scalr.resize(originalImage, Scalr.Method.QUALITY,
-                Scalr.Mode.AUTOMATIC, 300, 300, Scalr.OP_ANTIALIAS);
-        String mediumPath = saveThumbnail(medium, baseName + "_medium" + extension, format);
+    /**
+     * Downsample an image to every ThumbnailSize, each from the previous, smaller result instead of
+     * from the original. Images already within a size are not scaled up.
+     */
+    public Map<ThumbnailSize, BufferedImage> resizeProgressively(BufferedImage original) {
+        Map<ThumbnailSize, BufferedImage> derivatives = new EnumMap<>(ThumbnailSize.class);
+        resizeProgressively(original, derivatives::put);
+        return derivatives;
+    }
 
-        // Large thumbnail (600x600)
-        BufferedImage large = Scalr.resize(originalImage, Scalr.Method.QUALITY,
-                Scalr.Mode.AUTOMATIC, 600, 600, Scalr.OP_ANTIALIAS);
-        String largePath = saveThumbnail(large, baseName + "_large" + extension, format);
+    /**
+     * Downsample progressively, handing each size to the consumer as soon as it is ready
+     */
+    public void resizeProgressively(BufferedImage original, BiConsumer<ThumbnailSize, BufferedImage> consumer) {
+        BufferedImage previous = original;
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (previous.getWidth() > size.maxSize || previous.getHeight() > size.maxSize) {
+                previous = Scalr.resize(previous, Scalr.Method.QUALITY,
+                        Scalr.Mode.AUTOMATIC, size.maxSize, size.maxSize, Scalr.OP_ANTIALIAS);
+            }
+            consumer.accept(size, previous);
+        }
+    }
 
-        return new ThumbnailSet(smallPath, mediumPath, largePath);
+    /**
+     * Encode an image; transparency is flattened onto white for formats without alpha
+     */
+    public byte[] encode(BufferedImage image, String format) throws IOException {
+        if ("jpg".equals(format) && image.getColorModel().hasAlpha()) {
+            BufferedImage opaque = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = opaque.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            image = opaque;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, baos)) {
+            throw new IOException("No image writer for format " + format);
+        }
+        return baos.toByteArray();
     }
 
     private String saveThumbnail(BufferedImage thumbnail, String filename, String format) throws IOException {
@@ -1,28 +1,51 @@
 package com.teckiz.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_ENABLED = "enabled";
+
     @Value("${spring.security.jwt.secret}")
     private String secretKey;
 
     @Value("${spring.security.jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${spring.security.jwt.stateless:true}")
+    private boolean stateless;
+
+    private SecretKey signInKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signInKey = buildSignInKey();
+        jwtParser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -32,8 +55,20 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify the token signature and expiration once and return its claims
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ROLES, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        claims.put(CLAIM_ENABLED, userDetails.isEnabled() && userDetails.isAccountNonLocked());
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -51,33 +86,54 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Whether the token carries signed roles and can authenticate without loading the user
+     */
+    public boolean isStatelessToken(Claims claims) {
+        return stateless && claims.get(CLAIM_ROLES) instanceof Collection<?>;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public List<String> extractRoles(Claims claims) {
+        if (!(claims.get(CLAIM_ROLES) instanceof Collection<?> roles)) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isEnabled(Claims claims) {
+        return Boolean.TRUE.equals(claims.get(CLAIM_ENABLED, Boolean.class));
+    }
+
+    public long getExpiration() {
+        return jwtExpiration;
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private SecretKey getSignInKey() {
+    private SecretKey buildSignInKey() {
         try {
             byte[] keyBytes = Decoders.BASE64.decode(secretKey);
             return Keys.hmacShaKeyFor(keyBytes);
@@ -87,4 +143,3 @@ public class JwtService {
         }
     }
 }
-
@@ -0,0 +1,45 @@
+package com.teckiz.service;
+
+import com.teckiz.entity.CompanyModuleMapperMenu;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener evicting a module mapper's cached menu tree when one of its menus is created,
+ * updated, reordered or deleted. Eviction runs after commit so a concurrent read cannot cache
+ * the pre-commit tree.
+ */
+@Component
+public class MenuTreeListener {
+
+    private final MenuTreeService menuTreeService;
+
+    public MenuTreeListener(@Lazy MenuTreeService menuTreeService) {
+        this.menuTreeService = menuTreeService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(CompanyModuleMapperMenu menu) {
+        if (menu.getCompanyModuleMapper() == null) {
+            return;
+        }
+        Long companyModuleMapperId = menu.getCompanyModuleMapper().getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            menuTreeService.evictCompanyModuleMapper(companyModuleMapperId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                menuTreeService.evictCompanyModuleMapper(companyModuleMapperId);
+            }
+        });
+    }
+}
@@ -0,0 +1,187 @@
+package com.teckiz.service;
+
+import com.teckiz.dto.MenuNode;
+import com.teckiz.repository.CompanyModuleMapperMenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Per-module-mapper cache of the navigation menus.
+ * All menus of a mapper are read with one query and nested in memory into immutable trees for
+ * the main menu, footer menu and home page. Trees are evicted by MenuTreeListener after any menu
+ * of the mapper is written, with a TTL as a safety net for writes outside JPA.
+ */
+@Service
+public class MenuTreeService {
+
+    private static final String CACHE_NAME = "menu-tree";
+
+    private static final Comparator<MenuNode> BY_POSITION = Comparator
+            .comparing(MenuNode::position, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(MenuNode::id);
+
+    private static final Comparator<MenuNode> BY_SUB_MENU_POSITION = Comparator
+            .comparing(MenuNode::subMenuPosition, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(BY_POSITION);
+
+    /**
+     * @param menus every menu of the mapper, ordered by position, each with all of its sub-menus
+     * @param mainMenu public menus available in the main menu
+     * @param footerMenu public, non-master menus available in the footer
+     * @param homePage public, non-master menus available on the home page
+     */
+    public record MenuTree(List<MenuNode> menus, List<MenuNode> mainMenu, List<MenuNode> footerMenu,
+                           List<MenuNode> homePage) {
+    }
+
+    private final CompanyModuleMapperMenuRepository menuRepository;
+    private final long ttlNanos;
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // Bumped on every eviction so a tree loaded concurrently with a write is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public MenuTreeService(
+            CompanyModuleMapperMenuRepository menuRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.menu.ttl-seconds:600}") long ttlSeconds) {
+        this.menuRepository = menuRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", snapshots, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Menu trees of a module mapper
+     */
+    public MenuTree getTree(Long companyModuleMapperId) {
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(companyModuleMapperId);
+        if (snapshot != null && now - snapshot.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return snapshot.tree();
+        }
+
+        misses.increment();
+        long loadedGeneration = generation.get();
+        MenuTree tree = build(menuRepository.findMenuNodes(companyModuleMapperId));
+        if (generation.get() == loadedGeneration) {
+            snapshots.put(companyModuleMapperId, new Snapshot(tree, now));
+        }
+        return tree;
+    }
+
+    public void evictCompanyModuleMapper(Long companyModuleMapperId) {
+        generation.incrementAndGet();
+        if (companyModuleMapperId != null && snapshots.remove(companyModuleMapperId) != null) {
+            evictions.increment();
+        }
+    }
+
+    private static MenuTree build(List<MenuNode> rows) {
+        List<MenuNode> menus = nest(rows, menu -> true).all();
+        menus.sort(BY_POSITION);
+        return new MenuTree(
+                List.copyOf(menus),
+                nest(rows, menu -> isTrue(menu.publicMenu()) && isTrue(menu.availableInMainMenu())).roots(),
+                nest(rows, menu -> isTrue(menu.publicMenu()) && !isTrue(menu.master())
+                        && isTrue(menu.availableInFooterMenu())).roots(),
+                nest(rows, menu -> isTrue(menu.publicMenu()) && !isTrue(menu.master())
+                        && isTrue(menu.availableInHomePage())).roots());
+    }
+
+    /**
+     * Nest the menus accepted by a filter under their parents. A menu whose parent is not accepted
+     * becomes a root, so every accepted menu appears exactly once.
+     */
+    private static Nested nest(List<MenuNode> rows, Predicate<MenuNode> filter) {
+        Map<Long, MenuNode> accepted = new HashMap<>();
+        for (MenuNode row : rows) {
+            if (filter.test(row)) {
+                accepted.put(row.id(), row);
+            }
+        }
+
+        List<MenuNode> roots = new ArrayList<>();
+        Map<Long, List<MenuNode>> children = new HashMap<>();
+        for (MenuNode row : accepted.values()) {
+            Long parentId = row.mainMenu() != null ? row.mainMenu().id() : null;
+            if (parentId == null || parentId.equals(row.id()) || !accepted.containsKey(parentId)) {
+                roots.add(row);
+            } else {
+                children.computeIfAbsent(parentId, id -> new ArrayList<>()).add(row);
+            }
+        }
+        roots.sort(BY_POSITION);
+
+        List<MenuNode> all = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        List<MenuNode> tree = new ArrayList<>();
+        for (MenuNode root : roots) {
+            tree.add(attach(root, children, visited, all));
+        }
+        // Menus whose parents form a cycle are unreachable from any root; list them at the top level
+        accepted.values().stream()
+                .filter(menu -> !visited.contains(menu.id()))
+                .sorted(BY_POSITION)
+                .forEach(menu -> {
+                    if (!visited.contains(menu.id())) {
+                        tree.add(attach(menu, children, visited, all));
+                    }
+                });
+        return new Nested(List.copyOf(tree), all);
+    }
+
+    private static MenuNode attach(MenuNode menu, Map<Long, List<MenuNode>> children, Set<Long> visited,
+                                   List<MenuNode> all) {
+        // Tracked so a parent cycle in the data cannot recurse forever
+        visited.add(menu.id());
+        List<MenuNode> subMenus = children.getOrDefault(menu.id(), List.of()).stream()
+                .filter(subMenu -> !visited.contains(subMenu.id()))
+                .sorted(BY_SUB_MENU_POSITION)
+                .map(subMenu -> attach(subMenu, children, visited, all))
+                .toList();
+        MenuNode node = menu.withSubMenus(subMenus);
+        all.add(node);
+        return node;
+    }
+
+    private static boolean isTrue(Boolean value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    private record Nested(List<MenuNode> roots, List<MenuNode> all) {
+    }
+
+    private record Snapshot(MenuTree tree, long loadedAtNanos) {
+    }
+}
@@ -3,9 +3,7 @@ package com.teckiz.service;
 import com.teckiz.entity.Company;
 import com.teckiz.entity.CompanyModuleMapper;
 import com.teckiz.entity.Module;
-import com.teckiz.exception.HostNotFoundException;
 import com.teckiz.repository.CompanyModuleMapperRepository;
-import com.teckiz.repository.ModuleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -15,15 +13,13 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 public class ModuleAccessManager {
 
     private final WebsiteManager websiteManager;
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
-    private final ModuleRepository moduleRepository;
+    private final ModuleRegistry moduleRegistry;
 
     /**
      * Authenticate module access - checks host and user permissions
@@ -70,17 +66,9 @@ public class ModuleAccessManager {
      * Authenticate user with specific module
      */
     public CompanyModuleMapper authenticateUser() {
-        String host = getHost();
         String moduleKey = getParameter("moduleKey");
 
-        Optional<CompanyModuleMapper> mapperOpt = companyModuleMapperRepository
-                .findByHostAndArchivedFalseAndLiveTrue(host);
-
-        if (mapperOpt.isEmpty()) {
-            throw new HostNotFoundException();
-        }
-
-        CompanyModuleMapper companyModuleMapper = mapperOpt.get();
+        CompanyModuleMapper companyModuleMapper = websiteManager.checkHostAuthentication();
         Company company = companyModuleMapper.getCompany();
 
         if (company == null) {
@@ -91,36 +79,24 @@ public class ModuleAccessManager {
         }
 
         if (moduleKey != null && !moduleKey.isEmpty()) {
-            Module module = moduleRepository.findByModuleKeyAndArchivedFalse(moduleKey)
+            Module module = moduleRegistry.findByModuleKeyAndArchivedFalse(moduleKey)
                     .orElseThrow(() -> new ResponseStatusException(
                             HttpStatus.NOT_FOUND,
                             "Module not found"
                     ));
 
-            Optional<CompanyModuleMapper> moduleMapperOpt = companyModuleMapperRepository
-                    .findByCompanyAndModuleAndArchivedFalse(company, module);
-
-            if (moduleMapperOpt.isEmpty()) {
-                throw new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Selected module not found for your company"
-                );
-            }
+            Long moduleMapperId = moduleRegistry.findCompanyModuleMapperId(company.getId(), module.getId())
+                    .orElseThrow(() -> new ResponseStatusException(
+                            HttpStatus.NOT_FOUND,
+                            "Selected module not found for your company"
+                    ));
 
-            return moduleMapperOpt.get();
+            return companyModuleMapperRepository.getReferenceById(moduleMapperId);
         }
 
         return companyModuleMapper;
     }
 
-    private String getHost() {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes != null && attributes.getRequest() != null) {
-            return attributes.getRequest().getServerName();
-        }
-        return null;
-    }
-
     private String getParameter(String name) {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes != null && attributes.getRequest() != null) {
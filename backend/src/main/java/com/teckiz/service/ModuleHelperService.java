@@ -6,7 +6,6 @@ import com.teckiz.entity.CompanyModuleMapperMenu;
 import com.teckiz.entity.Module;
 import com.teckiz.repository.CompanyModuleMapperMenuRepository;
 import com.teckiz.repository.CompanyModuleMapperRepository;
-import com.teckiz.repository.ModuleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,12 +19,12 @@ import java.util.stream.Collectors;
 public class ModuleHelperService {
 
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
-    private final ModuleRepository moduleRepository;
+    private final ModuleRegistry moduleRegistry;
     private final CompanyModuleMapperMenuRepository menuRepository;
 
     public Map<String, String> getAllModules() {
-        List<Module> modules = moduleRepository.findByArchivedFalse();
-        return modules.stream()
+        return moduleRegistry.findAll().stream()
+                .filter(module -> !Boolean.TRUE.equals(module.getArchived()))
                 .collect(Collectors.toMap(
                         Module::getName,
                         Module::getModuleKey,
@@ -34,7 +33,6 @@ public class ModuleHelperService {
     }
 
     public Map<String, String> getCompanyModuleList(Company company) {
-        List<Module> allModules = moduleRepository.findByArchivedFalse();
         List<CompanyModuleMapper> companyModules = companyModuleMapperRepository.findByCompany(company);
 
         Map<String, String> companyModuleNames = companyModules.stream()
@@ -44,7 +42,8 @@ public class ModuleHelperService {
                 .stream()
                 .collect(Collectors.toMap(name -> name, name -> name));
 
-        return allModules.stream()
+        return moduleRegistry.findAll().stream()
+                .filter(module -> !Boolean.TRUE.equals(module.getArchived()))
                 .filter(module -> !companyModuleNames.containsKey(module.getName()))
                 .collect(Collectors.toMap(
                         Module::getName,
@@ -55,18 +54,16 @@ public class ModuleHelperService {
 
     @Transactional
     public void addMenuToModule(CompanyModuleMapper companyModuleMapper) {
-        Module websiteModule = moduleRepository.findByName(Module.WEBSITE)
+        Module websiteModule = moduleRegistry.findByName(Module.WEBSITE)
                 .orElse(null);
 
         if (websiteModule == null) {
             return;
         }
 
-        CompanyModuleMapper websiteModuleMapper = companyModuleMapperRepository
-                .findByCompanyAndModuleAndArchivedFalse(
-                        companyModuleMapper.getCompany(),
-                        websiteModule
-                )
+        CompanyModuleMapper websiteModuleMapper = moduleRegistry
+                .findCompanyModuleMapperId(companyModuleMapper.getCompany().getId(), websiteModule.getId())
+                .map(companyModuleMapperRepository::getReferenceById)
                 .orElse(null);
 
         if (websiteModuleMapper == null) {
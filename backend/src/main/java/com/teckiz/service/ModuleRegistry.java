@@ -0,0 +1,144 @@
+package com.teckiz.service;
+
+import com.teckiz.entity.Module;
+import com.teckiz.repository.CompanyModuleMapperRepository;
+import com.teckiz.repository.ModuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Preloaded registry of Module rows and of the modules each company is registered for.
+ * Modules are loaded once at startup into immutable maps; per-company module mapper
+ * indexes are loaded on first use and evicted when a company's modules change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModuleRegistry {
+
+    private final ModuleRepository moduleRepository;
+    private final CompanyModuleMapperRepository companyModuleMapperRepository;
+
+    private volatile Modules modules;
+
+    // A lock rather than a monitor: reload blocks on JDBC, which would pin a virtual thread's carrier
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    // companyId -> (moduleId -> companyModuleMapperId) for non-archived mappers
+    private final Map<Long, Map<Long, Long>> companyModules = new ConcurrentHashMap<>();
+
+    /**
+     * Load all modules from the database, replacing the current registry
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<Module> all = moduleRepository.findAll();
+
+            Map<Long, Module> byId = new HashMap<>();
+            Map<String, Module> byType = new HashMap<>();
+            Map<String, Module> byName = new HashMap<>();
+            Map<String, Module> byModuleKey = new HashMap<>();
+            for (Module module : all) {
+                byId.put(module.getId(), module);
+                if (module.getType() != null) {
+                    byType.putIfAbsent(module.getType(), module);
+                }
+                if (module.getName() != null) {
+                    byName.putIfAbsent(module.getName(), module);
+                }
+                if (module.getModuleKey() != null) {
+                    byModuleKey.putIfAbsent(module.getModuleKey(), module);
+                }
+            }
+
+            modules = new Modules(List.copyOf(all), Map.copyOf(byId), Map.copyOf(byType), Map.copyOf(byName), Map.copyOf(byModuleKey));
+            companyModules.clear();
+            log.info("Module registry loaded {} modules", all.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public Collection<Module> findAll() {
+        return modules().all();
+    }
+
+    public Optional<Module> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(modules().byId().get(id));
+    }
+
+    public Optional<Module> findByType(String type) {
+        return type == null ? Optional.empty() : Optional.ofNullable(modules().byType().get(type));
+    }
+
+    public Optional<Module> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(modules().byName().get(name));
+    }
+
+    public Optional<Module> findByModuleKeyAndArchivedFalse(String moduleKey) {
+        if (moduleKey == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(modules().byModuleKey().get(moduleKey))
+                .filter(module -> !Boolean.TRUE.equals(module.getArchived()));
+    }
+
+    /**
+     * Find the id of the non-archived module mapper registering a company for a module
+     */
+    public Optional<Long> findCompanyModuleMapperId(Long companyId, Long moduleId) {
+        if (companyId == null || moduleId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(companyModules
+                .computeIfAbsent(companyId, this::loadCompanyModules)
+                .get(moduleId));
+    }
+
+    /**
+     * Drop the module mapper index of a company so it is reloaded on next use
+     */
+    public void evictCompany(Long companyId) {
+        if (companyId != null) {
+            companyModules.remove(companyId);
+        }
+    }
+
+    private Map<Long, Long> loadCompanyModules(Long companyId) {
+        Map<Long, Long> index = new HashMap<>();
+        for (Object[] row : companyModuleMapperRepository.findModuleMapperIdsByCompanyId(companyId)) {
+            index.putIfAbsent((Long) row[0], (Long) row[1]);
+        }
+        return Map.copyOf(index);
+    }
+
+    private Modules modules() {
+        Modules current = modules;
+        if (current == null) {
+            reload();
+            current = modules;
+        }
+        return current;
+    }
+
+    private record Modules(
+            List<Module> all,
+            Map<Long, Module> byId,
+            Map<String, Module> byType,
+            Map<String, Module> byName,
+            Map<String, Module> byModuleKey) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.teckiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teckiz.dto.ContentVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Pre-serialized JSON of public detail responses addressed by slug, keyed by (company, type, slug).
+ * Only found, published content is cached, so tenant ownership and published checks are done once
+ * when an entry is rendered. Entries are evicted by the admin update/delete paths through
+ * {@link #evict(Type, Long)}, which finds an entry by entity id so a changed slug is evicted too;
+ * the TTL bounds staleness of embedded data edited elsewhere. The cache is an LRU bounded by the
+ * total size of the cached bodies.
+ */
+@Service
+public class RenderedResponseCache {
+
+    private static final String CACHE_NAME = "rendered-response";
+
+    public enum Type {
+        PAGE, NEWS, EVENT, RESEARCH_ARTICLE
+    }
+
+    /**
+     * A cached response body with the entity it was rendered from
+     * @param version validators for conditional GETs, or null when the endpoint has none
+     */
+    public record Rendered(byte[] body, Long entityId, ContentVersion version) {
+    }
+
+    /**
+     * What a cache miss renders: the entity's id and validators and the response to serialize
+     */
+    public record Source(Long entityId, ContentVersion version, Object response) {
+    }
+
+    private record Key(Long companyId, Type type, String slug) {
+    }
+
+    private record EntityRef(Type type, Long entityId) {
+    }
+
+    private record Entry(Key key, Rendered rendered, long loadedAtNanos) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // Guards entries, byEntity and bytes; entries is in access order for LRU eviction
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<EntityRef, Key> byEntity = new HashMap<>();
+    private long bytes;
+
+    // Bumped on every eviction so a response rendered concurrently with a write is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public RenderedResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.rendered.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.cache.rendered.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxBytes = maxBytes;
+        // A single body may not take more than an eighth of the cache
+        this.maxEntryBytes = maxBytes / 8;
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, RenderedResponseCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.rendered.bytes", this, RenderedResponseCache::bytes)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the cached response, or render it on a miss
+     * @param loader loads and maps the content; returns null when it is missing, not owned by the
+     *               company or not published, which is not cached
+     * @return the rendered response, or null if the loader found nothing
+     */
+    public Rendered getOrRender(Long companyId, Type type, String slug, Supplier<Source> loader) {
+        Key key = new Key(companyId, type, slug);
+        long now = System.nanoTime();
+        Entry entry = get(key);
+        if (entry != null && now - entry.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return entry.rendered();
+        }
+
+        misses.increment();
+        long loadedGeneration = generation.get();
+        Source source = loader.get();
+        if (source == null) {
+            return null;
+        }
+        Rendered rendered = new Rendered(serialize(source.response()), source.entityId(), source.version());
+        if (rendered.body().length <= maxEntryBytes) {
+            put(new Entry(key, rendered, now), loadedGeneration);
+        }
+        return rendered;
+    }
+
+    /**
+     * Evict the response rendered from an entity, under whatever slug it was cached
+     */
+    public void evict(Type type, Long entityId) {
+        generation.incrementAndGet();
+        if (entityId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Key key = byEntity.get(new EntityRef(type, entityId));
+            if (key != null) {
+                remove(entries.get(key));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evict every response of the given types of a company, for edits of content they embed
+     */
+    public void evictCompany(Long companyId, Set<Type> types) {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.key().companyId().equals(companyId) && types.contains(entry.key().type())) {
+                    iterator.remove();
+                    unlink(entry);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry get(Key key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Entry entry, long loadedGeneration) {
+        lock.lock();
+        try {
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+            remove(entries.get(entry.key()));
+            EntityRef entity = new EntityRef(entry.key().type(), entry.rendered().entityId());
+            // The entity may still be cached under its previous slug
+            Key previous = byEntity.get(entity);
+            if (previous != null) {
+                remove(entries.get(previous));
+            }
+
+            entries.put(entry.key(), entry);
+            byEntity.put(entity, entry.key());
+            bytes += entry.rendered().body().length;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                unlink(evicted);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entry != null) {
+            entries.remove(entry.key());
+            unlink(entry);
+        }
+    }
+
+    // Drop an entry already removed from entries from the entity index and byte count
+    private void unlink(Entry entry) {
+        byEntity.remove(new EntityRef(entry.key().type(), entry.rendered().entityId()), entry.key());
+        bytes -= entry.rendered().body().length;
+        evictions.increment();
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    private double size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
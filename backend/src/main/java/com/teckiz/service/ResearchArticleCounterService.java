@@ -0,0 +1,110 @@
+package com.teckiz.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view/download/visit counters for ResearchArticle.
+ * Hits are added to per-article LongAdders without touching the database; deltas are
+ * flushed periodically as atomic {@code column = column + ?} updates in one JDBC batch.
+ * The entity maps these columns as non-updatable, so this service is their only writer.
+ */
+@Slf4j
+@Service
+public class ResearchArticleCounterService {
+
+    private static final String FLUSH_SQL = "UPDATE ResearchArticle " +
+            "SET views = views + ?, downloads = downloads + ?, visits = visits + ? WHERE id = ?";
+
+    public enum Counter {
+        VIEWS, DOWNLOADS, VISITS;
+
+        public static Counter parse(String value) {
+            for (Counter counter : values()) {
+                if (counter.name().equals(value.toUpperCase(Locale.ROOT))) {
+                    return counter;
+                }
+            }
+            throw new IllegalArgumentException("Unknown article counter: " + value);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Entries are kept for the life of the process; they are bounded by the number of articles
+    private final Map<Long, LongAdder[]> deltas = new ConcurrentHashMap<>();
+
+    public ResearchArticleCounterService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void increment(Long articleId, Counter counter) {
+        if (articleId == null) {
+            return;
+        }
+        deltas.computeIfAbsent(articleId, id -> newAdders())[counter.ordinal()].increment();
+    }
+
+    /**
+     * Increments recorded for an article that have not been flushed yet
+     */
+    public long pending(Long articleId, Counter counter) {
+        LongAdder[] adders = articleId != null ? deltas.get(articleId) : null;
+        return adders != null ? adders[counter.ordinal()].sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${app.journal.counters.flush-interval-ms:10000}",
+            initialDelayString = "${app.journal.counters.flush-interval-ms:10000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((articleId, adders) -> {
+            long views = adders[Counter.VIEWS.ordinal()].sumThenReset();
+            long downloads = adders[Counter.DOWNLOADS.ordinal()].sumThenReset();
+            long visits = adders[Counter.VISITS.ordinal()].sumThenReset();
+            if (views != 0 || downloads != 0 || visits != 0) {
+                rows.add(new Object[]{views, downloads, visits, articleId});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, rows);
+            log.debug("Flushed counters of {} research articles", rows.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to flush counters of {} research articles: {}", rows.size(), e.getMessage(), e);
+            // Add the deltas back so the next flush retries them
+            for (Object[] row : rows) {
+                LongAdder[] adders = deltas.computeIfAbsent((Long) row[3], id -> newAdders());
+                adders[Counter.VIEWS.ordinal()].add((Long) row[0]);
+                adders[Counter.DOWNLOADS.ordinal()].add((Long) row[1]);
+                adders[Counter.VISITS.ordinal()].add((Long) row[2]);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[Counter.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
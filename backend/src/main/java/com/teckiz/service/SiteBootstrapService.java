@@ -0,0 +1,293 @@
+package com.teckiz.service;
+
+import com.teckiz.dto.PrincipalMessageResponse;
+import com.teckiz.dto.StoryResponse;
+import com.teckiz.entity.Company;
+import com.teckiz.entity.CompanyModuleMapper;
+import com.teckiz.entity.PrincipalMessage;
+import com.teckiz.entity.Story;
+import com.teckiz.entity.WebWidget;
+import com.teckiz.entity.WidgetContent;
+import com.teckiz.repository.PrincipalMessageRepository;
+import com.teckiz.repository.StoryRepository;
+import com.teckiz.repository.WebEventRepository;
+import com.teckiz.repository.WebNewsRepository;
+import com.teckiz.repository.WebWidgetRepository;
+import com.teckiz.util.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Everything a tenant homepage renders, fetched in one call.
+ * Each section is loaded on its own virtual thread in its own read-only transaction and must
+ * finish within the section timeout; a section that fails or times out is returned as null
+ * and reported under "errors" instead of failing the whole payload.
+ * Sections of all requests share a fixed number of permits sized below the connection pool, so
+ * concurrent bootstraps queue for a permit instead of draining the pool, and each transaction
+ * carries the section timeout so a timed-out query is cancelled by the driver and its
+ * connection returned.
+ */
+@Slf4j
+@Service
+public class SiteBootstrapService {
+
+    public enum Section {
+        MAIN_MENU("mainMenu"),
+        FOOTER_MENU("footerMenu"),
+        CAROUSEL_NEWS("carouselNews"),
+        UPCOMING_EVENTS("upcomingEvents"),
+        WIDGETS("widgets"),
+        PRINCIPAL_MESSAGE("principalMessage"),
+        STORIES("stories");
+
+        private final String key;
+
+        Section(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    private record Loaded(Object value, SqlStatementCounter.Snapshot sql) {
+    }
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MenuTreeService menuTreeService;
+    private final WebNewsRepository webNewsRepository;
+    private final WebEventRepository webEventRepository;
+    private final WebWidgetRepository webWidgetRepository;
+    private final PrincipalMessageRepository principalMessageRepository;
+    private final StoryRepository storyRepository;
+    private final MeterRegistry meterRegistry;
+    private final long sectionTimeoutNanos;
+    private final int storiesSize;
+    private final Semaphore connectionPermits;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SiteBootstrapService(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MenuTreeService menuTreeService,
+            WebNewsRepository webNewsRepository,
+            WebEventRepository webEventRepository,
+            WebWidgetRepository webWidgetRepository,
+            PrincipalMessageRepository principalMessageRepository,
+            StoryRepository storyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.site.bootstrap.section-timeout-ms:2000}") long sectionTimeoutMillis,
+            @Value("${app.site.bootstrap.stories-size:6}") int storiesSize,
+            @Value("${app.site.bootstrap.max-concurrent-sections:8}") int maxConcurrentSections) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Applied by Hibernate as the JDBC query timeout of every statement in the transaction
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMillis + 999)));
+        this.menuTreeService = menuTreeService;
+        this.webNewsRepository = webNewsRepository;
+        this.webEventRepository = webEventRepository;
+        this.webWidgetRepository = webWidgetRepository;
+        this.principalMessageRepository = principalMessageRepository;
+        this.storyRepository = storyRepository;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+        this.storiesSize = storiesSize;
+        this.connectionPermits = new Semaphore(maxConcurrentSections);
+    }
+
+    /**
+     * Load every homepage section of a tenant concurrently
+     * @return the sections keyed by name, plus "errors" naming each section that timed out or failed
+     */
+    public Map<String, Object> load(TenantContext tenant) {
+        // All sections start together, so one deadline gives each of them the full timeout
+        long deadline = System.nanoTime() + sectionTimeoutNanos;
+        Map<Section, Future<Loaded>> futures = new EnumMap<>(Section.class);
+        for (Section section : Section.values()) {
+            futures.put(section, executor.submit(() -> loadSection(section, tenant, deadline)));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Map.Entry<Section, Future<Loaded>> entry : futures.entrySet()) {
+            Section section = entry.getKey();
+            Future<Loaded> future = entry.getValue();
+            Object value = null;
+            String outcome = "success";
+            try {
+                Loaded loaded = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                SqlStatementCounter.add(loaded.sql());
+                value = loaded.value();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                outcome = "timeout";
+                log.warn("Bootstrap section {} of company {} timed out", section.key(), tenant.companyId());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    // Still waiting for a connection permit at the deadline
+                    outcome = "timeout";
+                    log.warn("Bootstrap section {} of company {} timed out waiting for a connection",
+                            section.key(), tenant.companyId());
+                } else {
+                    outcome = "error";
+                    log.warn("Bootstrap section {} of company {} failed: {}",
+                            section.key(), tenant.companyId(), e.getCause().getMessage(), e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                outcome = "error";
+            }
+            if (!"success".equals(outcome)) {
+                errors.put(section.key(), outcome);
+            }
+            meterRegistry.counter("site.bootstrap.sections", "section", section.key(), "outcome", outcome)
+                    .increment();
+            response.put(section.key(), value);
+        }
+        response.put("errors", errors);
+        return response;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Loaded loadSection(Section section, TenantContext tenant, long deadline)
+            throws InterruptedException, TimeoutException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (!connectionPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("No connection permit within the section timeout");
+            }
+            Object[] value = new Object[1];
+            try {
+                SqlStatementCounter.Snapshot sql = SqlStatementCounter.measure(() ->
+                        value[0] = transactionTemplate.execute(status -> fetch(section, tenant)));
+                return new Loaded(value[0], sql);
+            } finally {
+                connectionPermits.release();
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("site.bootstrap.section.time", "section", section.key()));
+        }
+    }
+
+    // Runs inside the section's transaction; entities are mapped here so nothing lazy escapes it
+    private Object fetch(Section section, TenantContext tenant) {
+        Company company = entityManager.getReference(Company.class, tenant.companyId());
+        CompanyModuleMapper companyModuleMapper =
+                entityManager.getReference(CompanyModuleMapper.class, tenant.companyModuleMapperId());
+
+        return switch (section) {
+            case MAIN_MENU -> menuTreeService.getTree(tenant.companyModuleMapperId()).mainMenu();
+            case FOOTER_MENU -> menuTreeService.getTree(tenant.companyModuleMapperId()).footerMenu();
+            case CAROUSEL_NEWS -> webNewsRepository.findCarouselNews(company);
+            case UPCOMING_EVENTS -> webEventRepository.findUpcomingEvents(company, LocalDateTime.now());
+            case WIDGETS -> webWidgetRepository.findActiveWithContents(companyModuleMapper).stream()
+                    .sorted(Comparator.comparing(WebWidget::getId))
+                    .map(this::mapWidget)
+                    .collect(Collectors.toList());
+            case PRINCIPAL_MESSAGE -> principalMessageRepository.findByCompanyAndPublishedTrue(company)
+                    .map(this::mapPrincipalMessage)
+                    .orElse(null);
+            case STORIES -> storyRepository.findByCompanyAndPublishedTrueAndArchivedFalse(
+                            company, PageRequest.of(0, storiesSize, Sort.by("createdAt").descending()))
+                    .getContent().stream()
+                    .map(this::mapStory)
+                    .collect(Collectors.toList());
+        };
+    }
+
+    private Map<String, Object> mapWidget(WebWidget widget) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", widget.getId());
+        response.put("widgetKey", widget.getWidgetKey());
+        response.put("name", widget.getName());
+        response.put("widgetType", widget.getWidgetType());
+        response.put("position", widget.getPosition());
+        response.put("contents", widget.getContents().stream()
+                .filter(content -> !Boolean.FALSE.equals(content.getActive()))
+                .sorted(Comparator.comparing(WidgetContent::getPosition,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(this::mapWidgetContent)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private Map<String, Object> mapWidgetContent(WidgetContent content) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", content.getId());
+        response.put("contentKey", content.getContentKey());
+        response.put("title", content.getTitle());
+        response.put("content", content.getContent());
+        response.put("image", content.getImage());
+        response.put("link", content.getLink());
+        response.put("position", content.getPosition());
+        return response;
+    }
+
+    private PrincipalMessageResponse mapPrincipalMessage(PrincipalMessage principalMessage) {
+        return PrincipalMessageResponse.builder()
+                .id(principalMessage.getId())
+                .messageKey(principalMessage.getMessageKey())
+                .title(principalMessage.getTitle())
+                .message(principalMessage.getMessage())
+                .principalImage(principalMessage.getPrincipalImage())
+                .principalName(principalMessage.getPrincipalName())
+                .published(principalMessage.getPublished())
+                .companyId(principalMessage.getCompany().getId())
+                .companyName(principalMessage.getCompany().getName())
+                .createdAt(principalMessage.getCreatedAt())
+                .updatedAt(principalMessage.getUpdatedAt())
+                .build();
+    }
+
+    private StoryResponse mapStory(Story story) {
+        return StoryResponse.builder()
+                .id(story.getId())
+                .storyKey(story.getStoryKey())
+                .title(story.getTitle())
+                .description(story.getDescription())
+                .thumbnail(story.getThumbnail())
+                .published(story.getPublished())
+                .archived(story.getArchived())
+                .storyTypeId(story.getStoryType() != null ? story.getStoryType().getId() : null)
+                .storyTypeName(story.getStoryType() != null ? story.getStoryType().getName() : null)
+                .companyId(story.getCompany().getId())
+                .companyName(story.getCompany().getName())
+                .createdAt(story.getCreatedAt())
+                .updatedAt(story.getUpdatedAt())
+                .build();
+    }
+}
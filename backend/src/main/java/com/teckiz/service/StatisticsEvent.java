@@ -0,0 +1,23 @@
+package com.teckiz.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable tracking hit accepted by StatisticsIngestionService, mirroring a Statistics row
+ */
+public record StatisticsEvent(
+        String statKey,
+        String statType,
+        String entityType,
+        Long entityId,
+        String entityKey,
+        Long userId,
+        String ipAddress,
+        String userAgent,
+        String referrer,
+        String sessionId,
+        String metadata,
+        Long companyId,
+        Long companyModuleMapperId,
+        LocalDateTime recordedAt) {
+}
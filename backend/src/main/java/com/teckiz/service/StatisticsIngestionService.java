@@ -0,0 +1,228 @@
+package com.teckiz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking ingestion path for Statistics tracking hits.
+ * Events are accepted into a bounded buffer and written by a single worker with
+ * multi-row INSERT statements, flushed when a batch fills up or the flush interval elapses.
+ * When the buffer is full new events are dropped and counted instead of blocking the request.
+ * Once a batch is stored its events are fed to the TrendingTracker and UniqueVisitorService from the
+ * worker thread; events of a failed batch are not.
+ */
+@Slf4j
+@Service
+public class StatisticsIngestionService {
+
+    private static final String INSERT_PREFIX = "INSERT INTO Statistics (stat_key, stat_type, entity_type, entity_id, " +
+            "entity_key, user_id, ip_address, user_agent, referrer, session_id, metadata, company_id, " +
+            "company_module_mapper_id, recorded_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 14;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingTracker trendingTracker;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final BlockingQueue<StatisticsEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter persisted;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public StatisticsIngestionService(
+            JdbcTemplate jdbcTemplate,
+            TrendingTracker trendingTracker,
+            UniqueVisitorService uniqueVisitorService,
+            MeterRegistry meterRegistry,
+            @Value("${app.statistics.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.statistics.ingestion.batch-size:500}") int batchSize,
+            @Value("${app.statistics.ingestion.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${app.statistics.ingestion.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingTracker = trendingTracker;
+        this.uniqueVisitorService = uniqueVisitorService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        this.accepted = Counter.builder("statistics.ingestion.events")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("statistics.ingestion.events")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.persisted = Counter.builder("statistics.ingestion.events")
+                .tag("result", "persisted")
+                .register(meterRegistry);
+        this.failed = Counter.builder("statistics.ingestion.events")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("statistics.ingestion.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "statistics-ingestion");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Accept an event for asynchronous persistence
+     * @return true if the event was queued, false if it was dropped because the buffer is full
+     */
+    public boolean submit(StatisticsEvent event) {
+        if (!running || !queue.offer(event)) {
+            dropped.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Generate a statKey without drawing on SecureRandom for every hit
+     */
+    public static String generateStatKey() {
+        byte[] bytes = new byte[16];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Stop accepting events and drain what is buffered before the DataSource shuts down
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Statistics ingestion did not drain within {} ms, {} events left", shutdownTimeoutMillis, queue.size());
+        }
+    }
+
+    private void run() {
+        List<StatisticsEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                StatisticsEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Interrupted: flush whatever is still buffered
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void fillBatch(List<StatisticsEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            StatisticsEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<StatisticsEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (INSERT_ROW.length() + 1))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (StatisticsEvent event : batch) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(INSERT_ROW);
+            // Clip to column lengths so one oversized value cannot fail the whole batch
+            args[i++] = event.statKey();
+            args[i++] = truncate(event.statType(), 100);
+            args[i++] = truncate(event.entityType(), 100);
+            args[i++] = event.entityId();
+            args[i++] = truncate(event.entityKey(), 255);
+            args[i++] = event.userId();
+            args[i++] = truncate(event.ipAddress(), 45);
+            args[i++] = truncate(event.userAgent(), 500);
+            args[i++] = truncate(event.referrer(), 500);
+            args[i++] = truncate(event.sessionId(), 255);
+            args[i++] = event.metadata();
+            args[i++] = event.companyId();
+            args[i++] = event.companyModuleMapperId();
+            args[i++] = Timestamp.valueOf(event.recordedAt());
+        }
+
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+            persisted.increment(batch.size());
+        } catch (DataAccessException e) {
+            failed.increment(batch.size());
+            log.error("Failed to persist {} statistics events: {}", batch.size(), e.getMessage(), e);
+            return;
+        }
+
+        // Only events that were stored count towards trending and unique visitors
+        for (StatisticsEvent event : batch) {
+            trendingTracker.record(event);
+            uniqueVisitorService.record(event);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
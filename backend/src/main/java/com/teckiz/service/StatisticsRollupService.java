@@ -0,0 +1,238 @@
+package com.teckiz.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains hourly and daily Statistics rollups and answers count/top-entity queries from them.
+ * A scheduled aggregator folds raw rows above the id watermark into the rollup tables; queries
+ * read whole days and hours from the rollups and only touch raw rows for partial-hour edges
+ * and for the tail that has not been aggregated yet.
+ * Ids are allocated before the inserting transaction commits, so a row can become visible after
+ * rows with higher ids. The watermark therefore only advances to the highest id inserted more than
+ * the grace period ago, and queries read the watermark in the same statement as the rollups.
+ */
+@Slf4j
+@Service
+public class StatisticsRollupService {
+
+    private static final String WATERMARK_NAME = "statistics";
+
+    // Read inside each summary statement so it comes from the same snapshot as the rollup rows
+    private static final String WATERMARK = "COALESCE((SELECT last_statistics_id FROM StatisticsRollupWatermark " +
+            "WHERE name = '" + WATERMARK_NAME + "'), 0)";
+
+    private static final String HOURLY_UPSERT = "INSERT INTO StatisticsHourlyRollup " +
+            "(company_id, stat_type, entity_type, entity_id, bucket_start, event_count) " +
+            "SELECT * FROM (SELECT company_id, stat_type, COALESCE(entity_type, '') AS entity_type, " +
+            "COALESCE(entity_id, 0) AS entity_id, " +
+            "TIMESTAMP(DATE_FORMAT(recorded_at, '%Y-%m-%d %H:00:00')) AS bucket_start, COUNT(*) AS event_count " +
+            "FROM Statistics WHERE id > ? AND id <= ? AND recorded_at IS NOT NULL " +
+            "GROUP BY company_id, stat_type, COALESCE(entity_type, ''), COALESCE(entity_id, 0), " +
+            "TIMESTAMP(DATE_FORMAT(recorded_at, '%Y-%m-%d %H:00:00'))) AS agg " +
+            "ON DUPLICATE KEY UPDATE event_count = StatisticsHourlyRollup.event_count + VALUES(event_count)";
+
+    private static final String DAILY_UPSERT = "INSERT INTO StatisticsDailyRollup " +
+            "(company_id, stat_type, entity_type, entity_id, bucket_start, event_count) " +
+            "SELECT * FROM (SELECT company_id, stat_type, COALESCE(entity_type, '') AS entity_type, " +
+            "COALESCE(entity_id, 0) AS entity_id, TIMESTAMP(DATE(recorded_at)) AS bucket_start, COUNT(*) AS event_count " +
+            "FROM Statistics WHERE id > ? AND id <= ? AND recorded_at IS NOT NULL " +
+            "GROUP BY company_id, stat_type, COALESCE(entity_type, ''), COALESCE(entity_id, 0), " +
+            "TIMESTAMP(DATE(recorded_at))) AS agg " +
+            "ON DUPLICATE KEY UPDATE event_count = StatisticsDailyRollup.event_count + VALUES(event_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long chunkSize;
+    private final long graceSeconds;
+
+    public StatisticsRollupService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.statistics.rollup.chunk-size:100000}") long chunkSize,
+            @Value("${app.statistics.rollup.grace-seconds:60}") long graceSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.graceSeconds = graceSeconds;
+    }
+
+    /**
+     * Fold every raw row above the watermark into the rollups, one chunk per transaction
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.rollup.interval-ms:60000}",
+            initialDelayString = "${app.statistics.rollup.interval-ms:60000}")
+    public void aggregate() {
+        try {
+            Boolean more;
+            do {
+                more = transactionTemplate.execute(status -> aggregateChunk());
+            } while (Boolean.TRUE.equals(more));
+        } catch (RuntimeException e) {
+            log.error("Statistics rollup aggregation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return true if a full chunk was aggregated and more rows may be pending
+     */
+    private boolean aggregateChunk() {
+        jdbcTemplate.update("INSERT IGNORE INTO StatisticsRollupWatermark (name, last_statistics_id, updated_at) " +
+                "VALUES (?, 0, NOW())", WATERMARK_NAME);
+
+        // Row lock serializes aggregators running on several instances
+        Long watermark = jdbcTemplate.queryForObject(
+                "SELECT last_statistics_id FROM StatisticsRollupWatermark WHERE name = ? FOR UPDATE",
+                Long.class, WATERMARK_NAME);
+        long from = watermark != null ? watermark : 0L;
+
+        // Every id up to a row inserted before the grace period belongs to a committed insert
+        Map<String, Object> settled = jdbcTemplate.queryForMap(
+                "SELECT COALESCE(MAX(id), 0) AS up_to, COUNT(*) AS settled FROM " +
+                        "(SELECT id, inserted_at FROM Statistics WHERE id > ? ORDER BY id LIMIT ?) AS chunk " +
+                        "WHERE inserted_at < NOW(6) - INTERVAL ? SECOND",
+                from, chunkSize, graceSeconds);
+        long upTo = ((Number) settled.get("up_to")).longValue();
+        if (upTo <= from) {
+            return false;
+        }
+
+        jdbcTemplate.update(HOURLY_UPSERT, from, upTo);
+        jdbcTemplate.update(DAILY_UPSERT, from, upTo);
+        jdbcTemplate.update("UPDATE StatisticsRollupWatermark SET last_statistics_id = ?, updated_at = NOW() WHERE name = ?",
+                upTo, WATERMARK_NAME);
+
+        log.debug("Statistics rollup aggregated ids ({}, {}]", from, upTo);
+        return ((Number) settled.get("settled")).longValue() >= chunkSize;
+    }
+
+    /**
+     * Count all events of a type for a company
+     */
+    public long count(Long companyId, String statType) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COALESCE(SUM(event_count), 0) FROM StatisticsDailyRollup " +
+                        "WHERE company_id = ? AND stat_type = ?) + " +
+                        "(SELECT COUNT(*) FROM Statistics WHERE company_id = ? AND stat_type = ? AND id > " + WATERMARK + ")",
+                Long.class, companyId, statType, companyId, statType);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Count events of a type for a company recorded between start and end (inclusive)
+     */
+    public long count(Long companyId, String statType, LocalDateTime start, LocalDateTime end) {
+        List<Object> args = new ArrayList<>();
+        String sources = buildSources(companyId, statType, start, end, args);
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(event_count), 0) FROM (" + sources + ") AS sources",
+                Long.class, args.toArray());
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Most frequent entities for an event type recorded between start and end (inclusive)
+     */
+    public List<EntityCount> findTopEntities(Long companyId, String statType,
+                                             LocalDateTime start, LocalDateTime end, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sources = buildSources(companyId, statType, start, end, args);
+        args.add(limit);
+        return jdbcTemplate.query(
+                "SELECT entity_type, entity_id, SUM(event_count) AS total FROM (" + sources + ") AS sources " +
+                        "GROUP BY entity_type, entity_id ORDER BY total DESC LIMIT ?",
+                (rs, rowNum) -> {
+                    String entityType = rs.getString("entity_type");
+                    long entityId = rs.getLong("entity_id");
+                    return new EntityCount(
+                            entityType == null || entityType.isEmpty() ? null : entityType,
+                            entityId == 0L ? null : entityId,
+                            rs.getLong("total"));
+                },
+                args.toArray());
+    }
+
+    /**
+     * Build a UNION ALL of (entity_type, entity_id, event_count) rows covering [start, end]:
+     * whole days from the daily rollup, remaining whole hours from the hourly rollup,
+     * partial-hour edges from aggregated raw rows, and every raw row above the watermark.
+     */
+    private String buildSources(Long companyId, String statType, LocalDateTime start, LocalDateTime end,
+                                List<Object> args) {
+        LocalDateTime hourStart = start.truncatedTo(ChronoUnit.HOURS);
+        if (hourStart.isBefore(start)) {
+            hourStart = hourStart.plusHours(1);
+        }
+        LocalDateTime hourEnd = end.truncatedTo(ChronoUnit.HOURS);
+        if (!hourStart.isBefore(hourEnd)) {
+            // No whole hour in range: read it entirely from raw rows
+            hourStart = end;
+            hourEnd = end;
+        }
+
+        LocalDateTime dayStart = hourStart.truncatedTo(ChronoUnit.DAYS);
+        if (dayStart.isBefore(hourStart)) {
+            dayStart = dayStart.plusDays(1);
+        }
+        LocalDateTime dayEnd = hourEnd.truncatedTo(ChronoUnit.DAYS);
+        if (!dayStart.isBefore(dayEnd)) {
+            dayStart = hourEnd;
+            dayEnd = hourEnd;
+        }
+
+        String sql = "SELECT entity_type, entity_id, event_count FROM StatisticsDailyRollup " +
+                "WHERE company_id = ? AND stat_type = ? AND bucket_start >= ? AND bucket_start < ? " +
+                "UNION ALL " +
+                "SELECT entity_type, entity_id, event_count FROM StatisticsHourlyRollup " +
+                "WHERE company_id = ? AND stat_type = ? " +
+                "AND ((bucket_start >= ? AND bucket_start < ?) OR (bucket_start >= ? AND bucket_start < ?)) " +
+                "UNION ALL " +
+                "SELECT COALESCE(entity_type, ''), COALESCE(entity_id, 0), 1 FROM Statistics " +
+                "WHERE company_id = ? AND stat_type = ? AND id <= " + WATERMARK + " " +
+                "AND ((recorded_at >= ? AND recorded_at < ?) OR (recorded_at >= ? AND recorded_at <= ?)) " +
+                "UNION ALL " +
+                "SELECT COALESCE(entity_type, ''), COALESCE(entity_id, 0), 1 FROM Statistics " +
+                "WHERE company_id = ? AND stat_type = ? AND id > " + WATERMARK + " " +
+                "AND recorded_at >= ? AND recorded_at <= ?";
+
+        args.add(companyId);
+        args.add(statType);
+        args.add(Timestamp.valueOf(dayStart));
+        args.add(Timestamp.valueOf(dayEnd));
+
+        args.add(companyId);
+        args.add(statType);
+        args.add(Timestamp.valueOf(hourStart));
+        args.add(Timestamp.valueOf(dayStart));
+        args.add(Timestamp.valueOf(dayEnd));
+        args.add(Timestamp.valueOf(hourEnd));
+
+        args.add(companyId);
+        args.add(statType);
+        args.add(Timestamp.valueOf(start));
+        args.add(Timestamp.valueOf(hourStart));
+        args.add(Timestamp.valueOf(hourEnd));
+        args.add(Timestamp.valueOf(end));
+
+        args.add(companyId);
+        args.add(statType);
+        args.add(Timestamp.valueOf(start));
+        args.add(Timestamp.valueOf(end));
+
+        return sql;
+    }
+
+    public record EntityCount(String entityType, Long entityId, long count) {
+    }
+}
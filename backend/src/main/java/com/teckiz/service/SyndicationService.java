@@ -0,0 +1,687 @@
+package com.teckiz.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.UriUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sitemaps and RSS/Atom feeds of a tenant's public content, written with a StAX writer straight
+ * into gzip files on local disk. Sitemap rows are read in keyset pages by id, so memory stays
+ * constant however much content a tenant has; a new sitemap file is started every
+ * app.sitemap.urls-per-file URLs and listed in the sitemap index. Generated files are named after
+ * a watermark of the content they were built from (count and last update of the published rows,
+ * the site settings and the URLs), so a request for an unchanged tenant only runs the watermark
+ * query and is served from disk.
+ */
+@Slf4j
+@Service
+public class SyndicationService {
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+
+    private static final String SITE_SQL =
+            "SELECT c.name, g.title, g.description, g.is_google_indexing_active, g.updated_at " +
+            "FROM Company c LEFT JOIN GoogleIndexSetting g ON g.company_module_mapper_id = ? WHERE c.id = ?";
+
+    /**
+     * Published content with a public URL. News scheduled for later is left out until its publish
+     * time has passed, which also changes the watermark when it goes live.
+     */
+    private enum Source {
+        PAGE("WebPage", "company_id = ?", "short_description", false),
+        NEWS("WebNews", "company_id = ? AND is_published = 1 AND (is_archived = 0 OR is_archived IS NULL) " +
+                "AND (published_at IS NULL OR published_at <= ?)", "short_description", true),
+        EVENT("WebEvent", "company_id = ? AND is_published = 1 AND (is_archived = 0 OR is_archived IS NULL)",
+                "description", false),
+        RESEARCH_ARTICLE("ResearchArticle", "company_id = ? AND is_published = 1", "abstract", false);
+
+        private final String table;
+        private final String filter;
+        private final String summaryColumn;
+        private final boolean scheduled;
+
+        Source(String table, String filter, String summaryColumn, boolean scheduled) {
+            this.table = table;
+            this.filter = filter + " AND slug IS NOT NULL";
+            this.summaryColumn = summaryColumn;
+            this.scheduled = scheduled;
+        }
+
+        private Object[] params(Long companyId, LocalDateTime now, Object... extra) {
+            List<Object> params = new ArrayList<>();
+            params.add(companyId);
+            if (scheduled) {
+                params.add(Timestamp.valueOf(now));
+            }
+            params.addAll(Arrays.asList(extra));
+            return params.toArray();
+        }
+    }
+
+    public enum Feed {
+        NEWS("news", Source.NEWS, "News"),
+        EVENTS("events", Source.EVENT, "Events"),
+        ARTICLES("articles", Source.RESEARCH_ARTICLE, "Articles");
+
+        private final String key;
+        private final Source source;
+        private final String title;
+
+        Feed(String key, Source source, String title) {
+            this.key = key;
+            this.source = source;
+            this.title = title;
+        }
+
+        public static Feed fromKey(String key) {
+            return Arrays.stream(values())
+                    .filter(feed -> feed.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown feed: " + key));
+        }
+    }
+
+    public enum Format {
+        RSS("rss"), ATOM("atom");
+
+        private final String key;
+
+        Format(String key) {
+            this.key = key;
+        }
+
+        public static Format fromKey(String key) {
+            return Arrays.stream(values())
+                    .filter(format -> format.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown feed format: " + key));
+        }
+    }
+
+    /**
+     * A generated, gzip-compressed file with the validators of the content it was built from
+     */
+    public record Artifact(Path file, String etag, Instant lastModified) {
+    }
+
+    private record Site(String companyName, String title, String description, boolean indexingActive,
+                        LocalDateTime updatedAt) {
+    }
+
+    private record Watermark(long count, LocalDateTime lastModified) {
+    }
+
+    private record Row(long id, String slug, String title, String summary, LocalDateTime publishedAt,
+                       LocalDateTime updatedAt) {
+    }
+
+    private record Generation(Path path, String etag, Instant lastModified) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final String siteUrl;
+    private final int urlsPerFile;
+    private final int pageSize;
+    private final int feedSize;
+    private final Map<Source, String> urlPatterns = new EnumMap<>(Source.class);
+    // One generation per file or sitemap set at a time; concurrent requests wait and reuse it
+    private final Map<Path, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public SyndicationService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.sitemap.cache-dir:sitemap-cache}") String directory,
+            @Value("${app.sitemap.site-url:}") String siteUrl,
+            @Value("${app.sitemap.urls-per-file:50000}") int urlsPerFile,
+            @Value("${app.sitemap.page-size:1000}") int pageSize,
+            @Value("${app.sitemap.feed-size:50}") int feedSize,
+            @Value("${app.sitemap.url-patterns.page:/pages/{slug}}") String pagePattern,
+            @Value("${app.sitemap.url-patterns.news:/news/{slug}}") String newsPattern,
+            @Value("${app.sitemap.url-patterns.event:/events/{slug}}") String eventPattern,
+            @Value("${app.sitemap.url-patterns.research-article:/journal/articles/{slug}}") String articlePattern) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Paths.get(directory);
+        this.siteUrl = siteUrl;
+        this.urlsPerFile = urlsPerFile;
+        this.pageSize = pageSize;
+        this.feedSize = feedSize;
+        urlPatterns.put(Source.PAGE, pagePattern);
+        urlPatterns.put(Source.NEWS, newsPattern);
+        urlPatterns.put(Source.EVENT, eventPattern);
+        urlPatterns.put(Source.RESEARCH_ARTICLE, articlePattern);
+    }
+
+    /**
+     * Sitemap index listing the tenant's sitemap files
+     * @param sitemapUrl URL the sitemap files are served under, ending before "/sitemap-1.xml.gz";
+     *                   the site root, so the files are within the scope of the sitemap
+     * @return the index, or null when Google indexing is not active for the module mapper
+     */
+    public Artifact sitemapIndex(TenantContext tenant, String sitemapUrl) {
+        Generation generation = sitemaps(tenant, sitemapUrl);
+        return generation != null ? artifact(generation, generation.path().resolve("sitemap.xml.gz")) : null;
+    }
+
+    /**
+     * One sitemap file of at most app.sitemap.urls-per-file URLs, numbered from 1
+     * @return the file, or null when it does not exist or Google indexing is not active
+     */
+    public Artifact sitemap(TenantContext tenant, String sitemapUrl, int number) {
+        Generation generation = sitemaps(tenant, sitemapUrl);
+        if (generation == null || number < 1) {
+            return null;
+        }
+        Path file = generation.path().resolve("sitemap-" + number + ".xml.gz");
+        return Files.exists(file) ? artifact(generation, file) : null;
+    }
+
+    /**
+     * Latest app.sitemap.feed-size published items of a content type
+     * @param feedUrl URL the feed is served at, for its self link
+     */
+    public Artifact feed(TenantContext tenant, Feed feed, Format format, String feedUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        Site site = site(tenant);
+        if (site == null) {
+            return null;
+        }
+        Watermark watermark = watermarks(List.of(feed.source), tenant.companyId(), now).get(feed.source);
+        String hash = hash(tenant, site, feedUrl, format.name(), watermark.toString());
+        Path target = tenantDirectory(tenant).resolve(feed.key + "-" + format.key + "-" + hash + ".xml.gz");
+
+        generate(target, () -> {
+            Path temp = Files.createTempFile(target.getParent(), feed.key + "-", ".tmp");
+            try {
+                try (OutputStream out = gzip(temp)) {
+                    List<Row> rows = jdbcTemplate.query(
+                            "SELECT id, slug, title, " + feed.source.summaryColumn + " AS summary, published_at, updated_at " +
+                                    "FROM " + feed.source.table + " WHERE " + feed.source.filter +
+                                    " ORDER BY published_at DESC, id DESC LIMIT ?",
+                            (rs, rowNum) -> row(rs), feed.source.params(tenant.companyId(), now, feedSize));
+                    String title = (site.title() != null ? site.title() : site.companyName()) + " - " + feed.title;
+                    LocalDateTime updated = watermark.lastModified() != null ? watermark.lastModified() : now;
+                    if (format == Format.RSS) {
+                        writeRss(out, tenant, feed.source, title, site, feedUrl, updated, rows);
+                    } else {
+                        writeAtom(out, tenant, feed.source, title, site, feedUrl, updated, rows);
+                    }
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            deleteStale(target, feed.key + "-" + format.key + "-");
+        });
+        return artifact(new Generation(target, hash, lastModified(site, watermark.lastModified())), target);
+    }
+
+    private Generation sitemaps(TenantContext tenant, String sitemapUrl) {
+        Site site = site(tenant);
+        if (site == null || !site.indexingActive()) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Source, Watermark> watermarks = watermarks(Arrays.asList(Source.values()), tenant.companyId(), now);
+        String hash = hash(tenant, site, sitemapUrl, String.valueOf(urlsPerFile), watermarks.toString());
+        Path target = tenantDirectory(tenant).resolve("sitemap-" + hash);
+
+        generate(target, () -> {
+            Path temp = Files.createTempDirectory(target.getParent(), "sitemap-tmp-");
+            try {
+                writeSitemaps(temp, tenant, sitemapUrl, now);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                deleteRecursively(temp);
+            }
+            deleteStale(target, "sitemap-");
+        });
+
+        LocalDateTime lastModified = null;
+        for (Watermark watermark : watermarks.values()) {
+            lastModified = latest(lastModified, watermark.lastModified());
+        }
+        return new Generation(target, hash, lastModified(site, lastModified));
+    }
+
+    private void writeSitemaps(Path directory, TenantContext tenant, String sitemapUrl, LocalDateTime now)
+            throws IOException {
+        List<LocalDateTime> fileLastModified = new ArrayList<>();
+        SitemapFile file = null;
+        try {
+            for (Source source : Source.values()) {
+                long afterId = 0;
+                List<Row> page;
+                do {
+                    page = jdbcTemplate.query(
+                            "SELECT id, slug, NULL AS title, NULL AS summary, NULL AS published_at, updated_at FROM " +
+                                    source.table + " WHERE " + source.filter + " AND id > ? ORDER BY id LIMIT ?",
+                            (rs, rowNum) -> row(rs), source.params(tenant.companyId(), now, afterId, pageSize));
+                    for (Row row : page) {
+                        if (file != null && file.urls == urlsPerFile) {
+                            file.close();
+                            file = null;
+                        }
+                        if (file == null) {
+                            fileLastModified.add(null);
+                            file = new SitemapFile(directory.resolve("sitemap-" + fileLastModified.size() + ".xml.gz"));
+                        }
+                        file.url(url(tenant, source, row.slug()), row.updatedAt());
+                        int last = fileLastModified.size() - 1;
+                        fileLastModified.set(last, latest(fileLastModified.get(last), row.updatedAt()));
+                    }
+                    if (!page.isEmpty()) {
+                        afterId = page.get(page.size() - 1).id();
+                    }
+                } while (page.size() == pageSize);
+            }
+            if (file != null) {
+                file.close();
+                file = null;
+            }
+        } finally {
+            if (file != null) {
+                file.abort();
+            }
+        }
+
+        try (OutputStream out = gzip(directory.resolve("sitemap.xml.gz"))) {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("sitemapindex");
+            xml.writeDefaultNamespace(SITEMAP_NS);
+            for (int i = 0; i < fileLastModified.size(); i++) {
+                xml.writeStartElement("sitemap");
+                element(xml, "loc", sitemapUrl + "/sitemap-" + (i + 1) + ".xml.gz");
+                if (fileLastModified.get(i) != null) {
+                    element(xml, "lastmod", w3c(fileLastModified.get(i)));
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write sitemap index", e);
+        }
+        log.info("Generated {} sitemap file(s) for module mapper {} on {}",
+                fileLastModified.size(), tenant.companyModuleMapperId(), tenant.host());
+    }
+
+    /**
+     * A sitemap file being written, one url element at a time
+     */
+    private static final class SitemapFile {
+
+        private final OutputStream out;
+        private final XMLStreamWriter xml;
+        private int urls;
+
+        private SitemapFile(Path path) throws IOException {
+            this.out = gzip(path);
+            try {
+                this.xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+                xml.writeStartDocument("UTF-8", "1.0");
+                xml.writeStartElement("urlset");
+                xml.writeDefaultNamespace(SITEMAP_NS);
+            } catch (XMLStreamException e) {
+                out.close();
+                throw new IOException("Failed to write sitemap " + path, e);
+            }
+        }
+
+        private void url(String loc, LocalDateTime lastModified) throws IOException {
+            try {
+                xml.writeStartElement("url");
+                element(xml, "loc", loc);
+                if (lastModified != null) {
+                    element(xml, "lastmod", w3c(lastModified));
+                }
+                xml.writeEndElement();
+                urls++;
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write sitemap url " + loc, e);
+            }
+        }
+
+        // Release the file after a failed generation; the partial output is deleted with its directory
+        private void abort() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                // Nothing to salvage
+            }
+        }
+
+        private void close() throws IOException {
+            try (out) {
+                xml.writeEndElement();
+                xml.writeEndDocument();
+                xml.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to finish sitemap", e);
+            }
+        }
+    }
+
+    private void writeRss(OutputStream out, TenantContext tenant, Source source, String title, Site site,
+                          String feedUrl, LocalDateTime updated, List<Row> rows) throws IOException {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("rss");
+            xml.writeAttribute("version", "2.0");
+            xml.writeNamespace("atom", ATOM_NS);
+            xml.writeStartElement("channel");
+            element(xml, "title", title);
+            element(xml, "link", siteUrl(tenant) + "/");
+            element(xml, "description", site.description() != null ? site.description() : title);
+            element(xml, "lastBuildDate", rfc1123(updated));
+            xml.writeEmptyElement("atom", "link", ATOM_NS);
+            xml.writeAttribute("href", xmlSafe(feedUrl));
+            xml.writeAttribute("rel", "self");
+            xml.writeAttribute("type", "application/rss+xml");
+            for (Row row : rows) {
+                String link = url(tenant, source, row.slug());
+                xml.writeStartElement("item");
+                element(xml, "title", row.title() != null ? row.title() : row.slug());
+                element(xml, "link", link);
+                xml.writeStartElement("guid");
+                xml.writeAttribute("isPermaLink", "true");
+                xml.writeCharacters(xmlSafe(link));
+                xml.writeEndElement();
+                LocalDateTime published = row.publishedAt() != null ? row.publishedAt() : row.updatedAt();
+                if (published != null) {
+                    element(xml, "pubDate", rfc1123(published));
+                }
+                if (row.summary() != null) {
+                    element(xml, "description", row.summary());
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write RSS feed", e);
+        }
+    }
+
+    private void writeAtom(OutputStream out, TenantContext tenant, Source source, String title, Site site,
+                           String feedUrl, LocalDateTime updated, List<Row> rows) throws IOException {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NS);
+            element(xml, "id", feedUrl);
+            element(xml, "title", title);
+            if (site.description() != null) {
+                element(xml, "subtitle", site.description());
+            }
+            element(xml, "updated", w3c(updated));
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("rel", "self");
+            xml.writeAttribute("href", xmlSafe(feedUrl));
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("href", xmlSafe(siteUrl(tenant) + "/"));
+            xml.writeStartElement("author");
+            element(xml, "name", site.companyName());
+            xml.writeEndElement();
+            for (Row row : rows) {
+                String link = url(tenant, source, row.slug());
+                xml.writeStartElement("entry");
+                element(xml, "id", link);
+                element(xml, "title", row.title() != null ? row.title() : row.slug());
+                xml.writeEmptyElement("link");
+                xml.writeAttribute("href", xmlSafe(link));
+                if (row.publishedAt() != null) {
+                    element(xml, "published", w3c(row.publishedAt()));
+                }
+                LocalDateTime entryUpdated = row.updatedAt() != null ? row.updatedAt() : row.publishedAt();
+                element(xml, "updated", w3c(entryUpdated != null ? entryUpdated : updated));
+                if (row.summary() != null) {
+                    xml.writeStartElement("summary");
+                    xml.writeAttribute("type", "html");
+                    xml.writeCharacters(xmlSafe(row.summary()));
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write Atom feed", e);
+        }
+    }
+
+    private Site site(TenantContext tenant) {
+        List<Site> sites = jdbcTemplate.query(SITE_SQL, (rs, rowNum) -> new Site(
+                        rs.getString(1), rs.getString(2), rs.getString(3), rs.getBoolean(4), localDateTime(rs.getTimestamp(5))),
+                tenant.companyModuleMapperId(), tenant.companyId());
+        return sites.isEmpty() ? null : sites.get(0);
+    }
+
+    /**
+     * Count and last update of the published rows of each source, in one round trip
+     */
+    private Map<Source, Watermark> watermarks(List<Source> sources, Long companyId, LocalDateTime now) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        for (Source source : sources) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT '").append(source.name()).append("', COUNT(*), MAX(updated_at) FROM ")
+                    .append(source.table).append(" WHERE ").append(source.filter);
+            params.addAll(Arrays.asList(source.params(companyId, now)));
+        }
+        Map<Source, Watermark> watermarks = new EnumMap<>(Source.class);
+        jdbcTemplate.query(sql.toString(), rs -> {
+            watermarks.put(Source.valueOf(rs.getString(1)),
+                    new Watermark(rs.getLong(2), localDateTime(rs.getTimestamp(3))));
+        }, params.toArray());
+        return watermarks;
+    }
+
+    private String hash(TenantContext tenant, Site site, String url, String variant, String watermark) {
+        String key = String.join("|", tenant.host(), url, variant, watermark, siteUrl(tenant),
+                urlPatterns.toString(), String.valueOf(feedSize), String.valueOf(site.companyName()),
+                String.valueOf(site.title()), String.valueOf(site.description()), String.valueOf(site.updatedAt()));
+        return DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path tenantDirectory(TenantContext tenant) {
+        return directory.resolve(String.valueOf(tenant.companyModuleMapperId()))
+                .resolve(tenant.host().replaceAll("[^A-Za-z0-9.-]", "_"));
+    }
+
+    /**
+     * Run a generation unless its target already exists, once per target at a time
+     */
+    private void generate(Path target, IoAction action) {
+        if (Files.exists(target)) {
+            return;
+        }
+        ReentrantLock lock = locks.computeIfAbsent(target, path -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                action.run();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate " + target, e);
+        } finally {
+            lock.unlock();
+            locks.remove(target, lock);
+        }
+    }
+
+    /**
+     * Delete earlier generations next to a freshly generated one
+     */
+    private void deleteStale(Path current, String prefix) {
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(current.getParent(), prefix + "*")) {
+            for (Path sibling : siblings) {
+                if (!sibling.equals(current) && !sibling.getFileName().toString().endsWith(".tmp")
+                        && !sibling.getFileName().toString().startsWith("sitemap-tmp-")) {
+                    deleteRecursively(sibling);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete stale files next to {}: {}", current, e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Public site URL of a tenant, without a trailing slash; the sitemap and feeds are served under it
+     */
+    public String siteUrl(TenantContext tenant) {
+        return siteUrl.isBlank() ? "https://" + tenant.host() : siteUrl;
+    }
+
+    private String url(TenantContext tenant, Source source, String slug) {
+        return siteUrl(tenant) + urlPatterns.get(source)
+                .replace("{slug}", UriUtils.encodePathSegment(slug, StandardCharsets.UTF_8));
+    }
+
+    private static Artifact artifact(Generation generation, Path file) {
+        return new Artifact(file, "W/\"" + generation.etag() + "\"", generation.lastModified());
+    }
+
+    private static Instant lastModified(Site site, LocalDateTime contentLastModified) {
+        LocalDateTime lastModified = latest(site.updatedAt(), contentLastModified);
+        return lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS)
+                : Instant.EPOCH;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private static Row row(ResultSet rs) throws SQLException {
+        return new Row(rs.getLong("id"), rs.getString("slug"), rs.getString("title"), rs.getString("summary"),
+                localDateTime(rs.getTimestamp("published_at")), localDateTime(rs.getTimestamp("updated_at")));
+    }
+
+    private static LocalDateTime localDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static OutputStream gzip(Path path) throws IOException {
+        return new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(path)), 8192);
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(xmlSafe(text));
+        xml.writeEndElement();
+    }
+
+    /**
+     * Drop the characters XML 1.0 does not allow, such as control characters pasted into a title
+     * or unpaired surrogates; the StAX writer escapes markup but writes these through, leaving a
+     * document that feed readers and crawlers reject as a whole
+     */
+    private static String xmlSafe(String text) {
+        if (text == null) {
+            return null;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            if (!isXmlChar(codePoint)) {
+                break;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (i == length) {
+            return text;
+        }
+        StringBuilder safe = new StringBuilder(length).append(text, 0, i);
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            if (isXmlChar(codePoint)) {
+                safe.appendCodePoint(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return safe.toString();
+    }
+
+    private static boolean isXmlChar(int codePoint) {
+        return codePoint == 0x9 || codePoint == 0xA || codePoint == 0xD
+                || (codePoint >= 0x20 && codePoint <= 0xD7FF)
+                || (codePoint >= 0xE000 && codePoint <= 0xFFFD)
+                || (codePoint >= 0x10000 && codePoint <= 0x10FFFF);
+    }
+
+    private static String w3c(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS)
+                .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private static String rfc1123(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,18 @@
+package com.teckiz.service;
+
+/**
+ * Tenant resolved for the current request: the live module mapper serving the host,
+ * its company and module type. Holds ids only so it can be handed to async work
+ * started from the request.
+ */
+public record TenantContext(
+        String host,
+        Long companyModuleMapperId,
+        String moduleMapperKey,
+        Long companyId,
+        Long moduleId,
+        String moduleType,
+        boolean companyActive) {
+
+    public static final String REQUEST_ATTRIBUTE = TenantContext.class.getName();
+}
@@ -0,0 +1,62 @@
+package com.teckiz.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Makes the request's TenantContext available to work running outside the request thread
+ */
+public final class TenantContextHolder {
+
+    private static final ThreadLocal<TenantContext> CONTEXT = new ThreadLocal<>();
+
+    private TenantContextHolder() {
+    }
+
+    /**
+     * Get the tenant resolved for the current request or propagated to the current thread
+     */
+    public static TenantContext get() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object tenant = attributes.getAttribute(TenantContext.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (tenant instanceof TenantContext tenantContext) {
+                return tenantContext;
+            }
+        }
+        return CONTEXT.get();
+    }
+
+    /**
+     * Store the tenant on the current request so later lookups in the same request reuse it
+     */
+    static void set(TenantContext tenant) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(TenantContext.REQUEST_ATTRIBUTE, tenant, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Wrap a task so it runs with the tenant of the thread that created it
+     */
+    public static Runnable wrap(Runnable task) {
+        TenantContext tenant = get();
+        if (tenant == null) {
+            return task;
+        }
+        return () -> {
+            TenantContext previous = CONTEXT.get();
+            CONTEXT.set(tenant);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CONTEXT.remove();
+                } else {
+                    CONTEXT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.teckiz.service;
+
+import com.teckiz.entity.Company;
+import com.teckiz.entity.CompanyModuleMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of host to tenant resolutions.
+ * Holds an immutable snapshot of the live module mapper for each host so that
+ * repeated requests skip the host lookup and the lazy Company load.
+ */
+@Slf4j
+@Service
+public class TenantResolutionCache {
+
+    private static final String CACHE_NAME = "tenant-resolution";
+
+    private final Map<String, TenantSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public TenantResolutionCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.tenant.ttl-seconds:300}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", snapshots, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the cached snapshot for a host, if present and not expired
+     */
+    public Optional<TenantSnapshot> get(String host) {
+        if (host == null) {
+            return Optional.empty();
+        }
+
+        TenantSnapshot snapshot = snapshots.get(host);
+        if (snapshot == null || snapshot.isExpired(System.nanoTime())) {
+            if (snapshot != null) {
+                snapshots.remove(host, snapshot);
+            }
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Take a snapshot of a freshly loaded module mapper and cache it under its host
+     */
+    public TenantSnapshot put(String host, CompanyModuleMapper companyModuleMapper) {
+        Company company = companyModuleMapper.getCompany();
+
+        TenantSnapshot snapshot = new TenantSnapshot(
+                host,
+                companyModuleMapper.getId(),
+                companyModuleMapper.getModuleMapperKey(),
+                companyModuleMapper.getModule() != null ? companyModuleMapper.getModule().getId() : null,
+                company != null ? company.getId() : null,
+                company != null && Boolean.TRUE.equals(company.getActive()),
+                System.nanoTime() + ttl.toNanos()
+        );
+
+        if (host != null) {
+            snapshots.put(host, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Evict every host that resolves to the given company
+     */
+    public void evictCompany(Long companyId) {
+        if (companyId == null) {
+            return;
+        }
+        snapshots.values().removeIf(snapshot -> {
+            boolean matches = companyId.equals(snapshot.companyId());
+            if (matches) {
+                evictions.increment();
+            }
+            return matches;
+        });
+        log.debug("Tenant resolution cache evicted for company {}", companyId);
+    }
+
+    /**
+     * Evict a single host
+     */
+    public void evictHost(String host) {
+        if (host != null && snapshots.remove(host) != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Evict all cached hosts
+     */
+    public void evictAll() {
+        evictions.increment(snapshots.size());
+        snapshots.clear();
+    }
+
+    /**
+     * Immutable view of a resolved tenant
+     */
+    public record TenantSnapshot(
+            String host,
+            Long mapperId,
+            String moduleMapperKey,
+            Long moduleId,
+            Long companyId,
+            boolean companyActive,
+            long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos > 0;
+        }
+    }
+}
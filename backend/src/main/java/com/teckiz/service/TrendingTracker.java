@@ -0,0 +1,439 @@
+package com.teckiz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory heavy-hitter tracker for trending entities per company and stat type.
+ * Each sliding window (hour, day, week) is a ring of time buckets, and each bucket is a
+ * Space-Saving summary holding at most {@code capacity} entities, so memory stays bounded
+ * regardless of traffic. Only the stat types listed in app.statistics.trending.stat-types are
+ * tracked, and at most max-companies x stat types series are held, so callers posting arbitrary
+ * stat types cannot grow it. Fed by the statistics ingestion worker; state is snapshotted to
+ * StatisticsTrendingSnapshot periodically and restored on startup.
+ */
+@Slf4j
+@Service
+public class TrendingTracker {
+
+    private static final byte SNAPSHOT_VERSION = 1;
+
+    private static final String UPSERT_SNAPSHOT = "INSERT INTO StatisticsTrendingSnapshot " +
+            "(company_id, stat_type, payload, updated_at) VALUES (?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE payload = VALUES(payload), updated_at = VALUES(updated_at)";
+
+    public enum Window {
+        HOUR(Duration.ofHours(1), 12),
+        DAY(Duration.ofDays(1), 24),
+        WEEK(Duration.ofDays(7), 7);
+
+        private final long bucketMillis;
+        private final int buckets;
+
+        Window(Duration length, int buckets) {
+            this.bucketMillis = length.toMillis() / buckets;
+            this.buckets = buckets;
+        }
+
+        public static Window parse(String value) {
+            for (Window window : values()) {
+                if (window.name().equals(value.toUpperCase(Locale.ROOT))) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("Unknown trending window: " + value);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final Set<String> statTypes;
+    private final int maxSeries;
+    private final Counter rejected;
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+
+    public TrendingTracker(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.statistics.trending.capacity:100}") int capacity,
+            @Value("${app.statistics.trending.stat-types:page_view,article_view,download,search,user_action}")
+            Set<String> statTypes,
+            @Value("${app.statistics.trending.max-companies:200}") int maxCompanies) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.statTypes = Set.copyOf(statTypes);
+        this.maxSeries = maxCompanies * this.statTypes.size();
+
+        this.rejected = Counter.builder("statistics.trending.rejected")
+                .description("Events not tracked because the series limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("statistics.trending.series", series, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count an event towards its entity's trending score
+     */
+    public void record(StatisticsEvent event) {
+        if (event.companyId() == null || !isTracked(event.statType())
+                || (event.entityType() == null && event.entityId() == null)) {
+            return;
+        }
+
+        SeriesKey key = new SeriesKey(event.companyId(), event.statType());
+        Series current = series.get(key);
+        if (current == null) {
+            if (series.size() >= maxSeries) {
+                rejected.increment();
+                return;
+            }
+            current = series.computeIfAbsent(key, k -> new Series(capacity));
+        }
+
+        long atMillis = event.recordedAt() != null
+                ? event.recordedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        current.add(new EntityRef(event.entityType(), event.entityId()), atMillis);
+    }
+
+    /**
+     * Most frequent entities of a company and stat type within a sliding window
+     * @param entityType optional entity type filter
+     */
+    public List<TrendingEntity> findTop(Long companyId, String statType, Window window, String entityType, int limit) {
+        if (!isTracked(statType)) {
+            throw new IllegalArgumentException("Stat type is not tracked for trending: " + statType);
+        }
+        Series current = series.get(new SeriesKey(companyId, statType));
+        if (current == null) {
+            return List.of();
+        }
+        return current.top(window, entityType, limit, System.currentTimeMillis());
+    }
+
+    /**
+     * Restore the windows saved by the previous run
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshots() {
+        try {
+            jdbcTemplate.query("SELECT company_id, stat_type, payload FROM StatisticsTrendingSnapshot", rs -> {
+                SeriesKey key = new SeriesKey(rs.getLong("company_id"), rs.getString("stat_type"));
+                if (!isTracked(key.statType()) || series.size() >= maxSeries) {
+                    return;
+                }
+                Series restored = new Series(capacity);
+                try {
+                    if (restored.restore(rs.getBytes("payload"))) {
+                        series.putIfAbsent(key, restored);
+                    }
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable trending snapshot for company {} / {}", key.companyId(), key.statType());
+                }
+            });
+            log.info("Trending tracker restored {} series", series.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not restore trending snapshots: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Write every series that changed since the last snapshot
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.statistics.trending.snapshot-interval-ms:300000}")
+    public void persistSnapshots() {
+        List<Object[]> rows = new ArrayList<>();
+        series.forEach((key, current) -> {
+            byte[] payload = current.snapshotIfDirty();
+            if (payload != null) {
+                rows.add(new Object[]{key.companyId(), key.statType(), payload});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, rows);
+            log.debug("Persisted {} trending snapshots", rows.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to persist trending snapshots: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        persistSnapshots();
+    }
+
+    private boolean isTracked(String statType) {
+        return statType != null && statTypes.contains(statType);
+    }
+
+    public record TrendingEntity(String entityType, Long entityId, long count) {
+    }
+
+    private record SeriesKey(Long companyId, String statType) {
+    }
+
+    private record EntityRef(String entityType, Long entityId) {
+    }
+
+    /**
+     * All windows of one company and stat type, guarded by its own lock
+     */
+    private static final class Series {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Ring[] rings;
+        private boolean dirty;
+
+        Series(int capacity) {
+            Window[] windows = Window.values();
+            rings = new Ring[windows.length];
+            for (Window window : windows) {
+                rings[window.ordinal()] = new Ring(window, capacity);
+            }
+        }
+
+        void add(EntityRef entity, long atMillis) {
+            lock.lock();
+            try {
+                for (Ring ring : rings) {
+                    ring.add(entity, atMillis);
+                }
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<TrendingEntity> top(Window window, String entityType, int limit, long nowMillis) {
+            Map<EntityRef, Long> totals;
+            lock.lock();
+            try {
+                totals = rings[window.ordinal()].totals(nowMillis);
+            } finally {
+                lock.unlock();
+            }
+            return totals.entrySet().stream()
+                    .filter(entry -> entityType == null || entityType.equals(entry.getKey().entityType()))
+                    .sorted(Map.Entry.<EntityRef, Long>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> new TrendingEntity(entry.getKey().entityType(), entry.getKey().entityId(), entry.getValue()))
+                    .collect(Collectors.toList());
+        }
+
+        byte[] snapshotIfDirty() {
+            lock.lock();
+            try {
+                if (!dirty) {
+                    return null;
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(bytes)) {
+                    out.writeByte(SNAPSHOT_VERSION);
+                    for (Ring ring : rings) {
+                        ring.write(out);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                dirty = false;
+                return bytes.toByteArray();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return false if the payload was written in an incompatible layout
+         */
+        boolean restore(byte[] payload) throws IOException {
+            lock.lock();
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+                if (in.readByte() != SNAPSHOT_VERSION) {
+                    return false;
+                }
+                for (Ring ring : rings) {
+                    if (!ring.read(in)) {
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Ring of Space-Saving summaries covering one sliding window
+     */
+    private static final class Ring {
+
+        private final Window window;
+        private final long[] bucketIds;
+        private final SpaceSaving[] summaries;
+
+        Ring(Window window, int capacity) {
+            this.window = window;
+            this.bucketIds = new long[window.buckets];
+            this.summaries = new SpaceSaving[window.buckets];
+            Arrays.fill(bucketIds, -1L);
+            for (int i = 0; i < window.buckets; i++) {
+                summaries[i] = new SpaceSaving(capacity);
+            }
+        }
+
+        void add(EntityRef entity, long atMillis) {
+            long bucketId = atMillis / window.bucketMillis;
+            int slot = (int) (bucketId % window.buckets);
+            if (bucketIds[slot] != bucketId) {
+                if (bucketIds[slot] > bucketId) {
+                    // Older than the bucket now occupying the slot, so outside the window
+                    return;
+                }
+                bucketIds[slot] = bucketId;
+                summaries[slot].clear();
+            }
+            summaries[slot].offer(entity);
+        }
+
+        Map<EntityRef, Long> totals(long nowMillis) {
+            long current = nowMillis / window.bucketMillis;
+            Map<EntityRef, Long> totals = new HashMap<>();
+            for (int i = 0; i < bucketIds.length; i++) {
+                if (bucketIds[i] > current - window.buckets && bucketIds[i] <= current) {
+                    summaries[i].addTo(totals);
+                }
+            }
+            return totals;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(bucketIds.length);
+            for (int i = 0; i < bucketIds.length; i++) {
+                out.writeLong(bucketIds[i]);
+                summaries[i].write(out);
+            }
+        }
+
+        boolean read(DataInputStream in) throws IOException {
+            if (in.readInt() != bucketIds.length) {
+                return false;
+            }
+            for (int i = 0; i < bucketIds.length; i++) {
+                bucketIds[i] = in.readLong();
+                summaries[i].read(in);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Space-Saving summary: when full, a new entity replaces the least frequent one and
+     * inherits its count, so every entity above 1/capacity of the traffic is retained.
+     */
+    private static final class SpaceSaving {
+
+        private final int capacity;
+        private final Map<EntityRef, Long> counts;
+
+        SpaceSaving(int capacity) {
+            this.capacity = capacity;
+            this.counts = new HashMap<>(capacity * 2);
+        }
+
+        void offer(EntityRef entity) {
+            Long count = counts.get(entity);
+            if (count != null) {
+                counts.put(entity, count + 1);
+                return;
+            }
+            if (counts.size() < capacity) {
+                counts.put(entity, 1L);
+                return;
+            }
+
+            EntityRef minEntity = null;
+            long minCount = Long.MAX_VALUE;
+            for (Map.Entry<EntityRef, Long> entry : counts.entrySet()) {
+                if (entry.getValue() < minCount) {
+                    minEntity = entry.getKey();
+                    minCount = entry.getValue();
+                }
+            }
+            counts.remove(minEntity);
+            counts.put(entity, minCount + 1);
+        }
+
+        void addTo(Map<EntityRef, Long> totals) {
+            counts.forEach((entity, count) -> totals.merge(entity, count, Long::sum));
+        }
+
+        void clear() {
+            counts.clear();
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(counts.size());
+            for (Map.Entry<EntityRef, Long> entry : counts.entrySet()) {
+                EntityRef entity = entry.getKey();
+                out.writeBoolean(entity.entityType() != null);
+                if (entity.entityType() != null) {
+                    out.writeUTF(entity.entityType());
+                }
+                out.writeBoolean(entity.entityId() != null);
+                if (entity.entityId() != null) {
+                    out.writeLong(entity.entityId());
+                }
+                out.writeLong(entry.getValue());
+            }
+        }
+
+        void read(DataInputStream in) throws IOException {
+            counts.clear();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String entityType = in.readBoolean() ? in.readUTF() : null;
+                Long entityId = in.readBoolean() ? in.readLong() : null;
+                long count = in.readLong();
+                if (counts.size() < capacity) {
+                    counts.put(new EntityRef(entityType, entityId), count);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.teckiz.service;
+
+import com.teckiz.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Unique visitor counts backed by daily HyperLogLog sketches per company and entity.
+ * Visitors are identified by session id, or by IP address and user agent when there is no session.
+ * The ingestion worker updates in-memory sketches which are periodically merged into
+ * StatisticsVisitorSketch rows; queries merge stored days with sketches not yet flushed.
+ */
+@Slf4j
+@Service
+public class UniqueVisitorService {
+
+    private static final String SITE_ENTITY_TYPE = "";
+    private static final long SITE_ENTITY_ID = 0L;
+
+    private static final String UPSERT_SKETCH = "INSERT INTO StatisticsVisitorSketch " +
+            "(company_id, entity_type, entity_id, bucket_date, sketch, updated_at) VALUES (?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Guards pending; a lock rather than a monitor so request threads never pin a virtual thread's carrier
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private Map<SketchKey, HyperLogLog> pending = new HashMap<>();
+
+    public UniqueVisitorService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Count the event's visitor towards its entity and towards the whole site for that day
+     */
+    public void record(StatisticsEvent event) {
+        String visitor = visitorId(event);
+        if (visitor == null || event.companyId() == null || event.recordedAt() == null) {
+            return;
+        }
+
+        long hash = HyperLogLog.hash(visitor);
+        LocalDate day = event.recordedAt().toLocalDate();
+        pendingLock.lock();
+        try {
+            pending.computeIfAbsent(new SketchKey(event.companyId(), SITE_ENTITY_TYPE, SITE_ENTITY_ID, day),
+                    key -> new HyperLogLog()).offerHash(hash);
+            if (event.entityType() != null || event.entityId() != null) {
+                SketchKey key = new SketchKey(event.companyId(),
+                        event.entityType() != null ? truncate(event.entityType()) : SITE_ENTITY_TYPE,
+                        event.entityId() != null ? event.entityId() : SITE_ENTITY_ID,
+                        day);
+                pending.computeIfAbsent(key, k -> new HyperLogLog()).offerHash(hash);
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Estimate unique visitors between two days (inclusive)
+     * @param entityType null together with entityId for site-wide visitors
+     */
+    public UniqueVisitors countUniqueVisitors(Long companyId, String entityType, Long entityId,
+                                              LocalDate startDate, LocalDate endDate) {
+        String type = entityType != null ? entityType : SITE_ENTITY_TYPE;
+        long id = entityId != null ? entityId : SITE_ENTITY_ID;
+
+        Map<LocalDate, HyperLogLog> days = new TreeMap<>();
+        jdbcTemplate.query("SELECT bucket_date, sketch FROM StatisticsVisitorSketch " +
+                        "WHERE company_id = ? AND entity_type = ? AND entity_id = ? AND bucket_date BETWEEN ? AND ?",
+                rs -> {
+                    days.put(rs.getDate("bucket_date").toLocalDate(), HyperLogLog.fromBytes(rs.getBytes("sketch")));
+                },
+                companyId, type, id, Date.valueOf(startDate), Date.valueOf(endDate));
+
+        pendingLock.lock();
+        try {
+            pending.forEach((key, sketch) -> {
+                if (key.companyId().equals(companyId) && key.entityType().equals(type) && key.entityId() == id
+                        && !key.day().isBefore(startDate) && !key.day().isAfter(endDate)) {
+                    days.computeIfAbsent(key.day(), day -> new HyperLogLog()).merge(sketch);
+                }
+            });
+        } finally {
+            pendingLock.unlock();
+        }
+
+        HyperLogLog total = new HyperLogLog();
+        Map<LocalDate, Long> daily = new TreeMap<>();
+        days.forEach((day, sketch) -> {
+            total.merge(sketch);
+            daily.put(day, sketch.estimate());
+        });
+        return new UniqueVisitors(total.estimate(), daily);
+    }
+
+    /**
+     * Merge pending sketches into the stored daily rows
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.visitors.flush-interval-ms:60000}",
+            initialDelayString = "${app.statistics.visitors.flush-interval-ms:60000}")
+    public void flush() {
+        Map<SketchKey, HyperLogLog> drained;
+        pendingLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new HashMap<>();
+        } finally {
+            pendingLock.unlock();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> rows = new ArrayList<>(drained.size());
+                drained.forEach((key, sketch) -> {
+                    // Row lock keeps concurrent instances from overwriting each other's merge
+                    List<byte[]> stored = jdbcTemplate.query("SELECT sketch FROM StatisticsVisitorSketch " +
+                                    "WHERE company_id = ? AND entity_type = ? AND entity_id = ? AND bucket_date = ? FOR UPDATE",
+                            (rs, rowNum) -> rs.getBytes("sketch"),
+                            key.companyId(), key.entityType(), key.entityId(), Date.valueOf(key.day()));
+                    if (!stored.isEmpty()) {
+                        sketch.merge(HyperLogLog.fromBytes(stored.get(0)));
+                    }
+                    rows.add(new Object[]{key.companyId(), key.entityType(), key.entityId(),
+                            Date.valueOf(key.day()), sketch.toBytes()});
+                });
+                jdbcTemplate.batchUpdate(UPSERT_SKETCH, rows);
+            });
+            log.debug("Flushed {} unique visitor sketches", drained.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to flush {} unique visitor sketches: {}", drained.size(), e.getMessage(), e);
+            restore(drained);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Put sketches that could not be stored back so the next flush retries them
+     */
+    private void restore(Map<SketchKey, HyperLogLog> drained) {
+        pendingLock.lock();
+        try {
+            drained.forEach((key, sketch) -> pending.merge(key, sketch, (current, failed) -> {
+                current.merge(failed);
+                return current;
+            }));
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private static String visitorId(StatisticsEvent event) {
+        if (event.sessionId() != null && !event.sessionId().isBlank()) {
+            return "s:" + event.sessionId();
+        }
+        if (event.ipAddress() != null && !event.ipAddress().isBlank()) {
+            return "a:" + event.ipAddress() + '|' + (event.userAgent() != null ? event.userAgent() : "");
+        }
+        return null;
+    }
+
+    private static String truncate(String entityType) {
+        return entityType.length() > 100 ? entityType.substring(0, 100) : entityType;
+    }
+
+    public record UniqueVisitors(long total, Map<LocalDate, Long> daily) {
+    }
+
+    private record SketchKey(Long companyId, String entityType, long entityId, LocalDate day) {
+    }
+}
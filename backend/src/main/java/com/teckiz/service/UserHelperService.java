@@ -28,6 +28,7 @@ public class UserHelperService {
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
 
     @Transactional
     public void addUserToCompany(Company company, CompanyRoleMapper companyRoleMapper, User user, List<String> moduleKeys) {
@@ -65,6 +66,7 @@ public class UserHelperService {
         }
 
         userCompanyRoleRepository.save(userCompanyRole);
+        userStatusCache.revoke(user.getEmail());
     }
 
     @Transactional
@@ -77,6 +79,7 @@ public class UserHelperService {
         }
 
         userCompanyRole.setCompanyRoleMapper(companyRole);
+        userStatusCache.revoke(user.getEmail());
         if (Boolean.TRUE.equals(userCompanyRole.getActive())) {
             Set<String> roles = new HashSet<>();
             roles.add(companyRole.getRole().getRole());
@@ -132,6 +135,8 @@ public class UserHelperService {
 
     @Transactional
     public boolean afterDelete(User user) {
+        userStatusCache.revoke(user.getEmail());
+
         UserCompanyRole userActiveRole = userCompanyRoleRepository.findByUserAndActiveTrue(user)
                 .orElse(null);
 
@@ -0,0 +1,104 @@
+package com.teckiz.service;
+
+import com.teckiz.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of user enabled/deactivated state used by stateless JWT authentication.
+ * Revocations are stored on the user row (tokens_valid_after) and read with that state, so tokens
+ * issued before a role or account change are rejected after a restart and on every instance,
+ * at the latest once the cached state expires.
+ */
+@Slf4j
+@Service
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+
+    private final Map<String, Status> statuses = new ConcurrentHashMap<>();
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.security.jwt.status-ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Check that a token issued at the given time still belongs to an active user
+     */
+    public boolean isActive(String email, Date issuedAt) {
+        long now = System.nanoTime();
+        Status status = statuses.get(email);
+        if (status == null || now - status.loadedAtNanos() > ttlNanos) {
+            status = load(email, now);
+            statuses.put(email, status);
+        }
+        if (!status.active()) {
+            return false;
+        }
+        return status.tokensValidAfterSecond() == null
+                || (issuedAt != null && issuedAt.getTime() / 1000 >= status.tokensValidAfterSecond());
+    }
+
+    /**
+     * Revoke every token issued to the user so far, with the current transaction if there is one,
+     * and drop the cached state once the revocation is visible
+     */
+    public void revoke(String email) {
+        if (email == null) {
+            return;
+        }
+        // Token issue times have second precision
+        LocalDateTime validAfter = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("UPDATE User SET tokens_valid_after = ? WHERE email = ?",
+                Timestamp.valueOf(validAfter), email);
+
+        statuses.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statuses.remove(email);
+                }
+            });
+        }
+        log.debug("Revoked tokens for user {}", email);
+    }
+
+    private Status load(String email, long now) {
+        List<Object[]> rows = userRepository.findStatusByEmail(email);
+        if (rows.isEmpty()) {
+            return new Status(false, null, now);
+        }
+        Object[] row = rows.get(0);
+        boolean enabled = Boolean.TRUE.equals(row[0]);
+        boolean deactive = Boolean.TRUE.equals(row[1]);
+        Long tokensValidAfterSecond = row[2] instanceof LocalDateTime validAfter
+                ? validAfter.atZone(ZoneId.systemDefault()).toEpochSecond()
+                : null;
+        return new Status(enabled && !deactive, tokensValidAfterSecond, now);
+    }
+
+    private record Status(boolean active, Long tokensValidAfterSecond, long loadedAtNanos) {
+    }
+}
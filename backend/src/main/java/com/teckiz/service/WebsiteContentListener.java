@@ -0,0 +1,65 @@
+package com.teckiz.service;
+
+import com.teckiz.entity.Company;
+import com.teckiz.entity.WebAlbum;
+import com.teckiz.entity.WebContacts;
+import com.teckiz.entity.WebEvent;
+import com.teckiz.entity.WebNews;
+import com.teckiz.entity.WebPage;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener evicting a company's dashboard snapshot when its website content changes.
+ * Eviction runs after commit so a concurrent dashboard read cannot cache pre-commit counts.
+ */
+@Component
+public class WebsiteContentListener {
+
+    private final WebsiteDashboardService websiteDashboardService;
+
+    public WebsiteContentListener(@Lazy WebsiteDashboardService websiteDashboardService) {
+        this.websiteDashboardService = websiteDashboardService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Company company = companyOf(entity);
+        if (company == null) {
+            return;
+        }
+        Long companyId = company.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            websiteDashboardService.evictCompany(companyId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                websiteDashboardService.evictCompany(companyId);
+            }
+        });
+    }
+
+    private static Company companyOf(Object entity) {
+        if (entity instanceof WebPage page) {
+            return page.getCompany();
+        } else if (entity instanceof WebNews news) {
+            return news.getCompany();
+        } else if (entity instanceof WebAlbum album) {
+            return album.getCompany();
+        } else if (entity instanceof WebEvent event) {
+            return event.getCompany();
+        } else if (entity instanceof WebContacts contacts) {
+            return contacts.getCompany();
+        }
+        return null;
+    }
+}
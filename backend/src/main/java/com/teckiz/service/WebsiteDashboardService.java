@@ -0,0 +1,120 @@
+package com.teckiz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant snapshot of the website admin dashboard counts.
+ * Counts come from one aggregate round trip; snapshots are evicted by WebsiteContentListener
+ * when content of the company is written, with a TTL as a safety net for writes outside JPA.
+ */
+@Service
+public class WebsiteDashboardService {
+
+    private static final String CACHE_NAME = "website-dashboard";
+
+    private static final String PUBLISHED = "SUM(CASE WHEN is_published = 1 AND (is_archived = 0 OR is_archived IS NULL) THEN 1 ELSE 0 END)";
+
+    private static final String COUNTS_SQL =
+            "SELECT 'pages' AS content, COUNT(*) AS total, 0 AS published FROM WebPage WHERE company_id = ? " +
+            "UNION ALL SELECT 'news', COUNT(*), " + PUBLISHED + " FROM WebNews WHERE company_id = ? " +
+            "UNION ALL SELECT 'albums', COUNT(*), " + PUBLISHED + " FROM WebAlbum WHERE company_id = ? " +
+            "UNION ALL SELECT 'events', COUNT(*), " + PUBLISHED + " FROM WebEvent WHERE company_id = ? " +
+            "UNION ALL SELECT 'contacts', COUNT(*), 0 FROM WebContacts WHERE company_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // Bumped on every eviction so counts loaded concurrently with a write are not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public WebsiteDashboardService(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.dashboard.ttl-seconds:300}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", snapshots, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Dashboard counts of a company, keyed as the dashboard response expects them
+     */
+    public Map<String, Object> getStats(Long companyId) {
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(companyId);
+        if (snapshot != null && now - snapshot.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return snapshot.stats();
+        }
+
+        misses.increment();
+        long loadedGeneration = generation.get();
+        Map<String, Object> stats = load(companyId);
+        if (generation.get() == loadedGeneration) {
+            snapshots.put(companyId, new Snapshot(stats, now));
+        }
+        return stats;
+    }
+
+    public void evictCompany(Long companyId) {
+        generation.incrementAndGet();
+        if (companyId != null && snapshots.remove(companyId) != null) {
+            evictions.increment();
+        }
+    }
+
+    private Map<String, Object> load(Long companyId) {
+        Map<String, long[]> counts = new HashMap<>();
+        jdbcTemplate.query(COUNTS_SQL,
+                rs -> {
+                    counts.put(rs.getString("content"), new long[]{rs.getLong("total"), rs.getLong("published")});
+                },
+                companyId, companyId, companyId, companyId, companyId);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalPages", count(counts, "pages", 0));
+        stats.put("totalNews", count(counts, "news", 0));
+        stats.put("publishedNews", count(counts, "news", 1));
+        stats.put("totalAlbums", count(counts, "albums", 0));
+        stats.put("publishedAlbums", count(counts, "albums", 1));
+        stats.put("totalEvents", count(counts, "events", 0));
+        stats.put("publishedEvents", count(counts, "events", 1));
+        stats.put("totalContacts", count(counts, "contacts", 0));
+        return Map.copyOf(stats);
+    }
+
+    private static long count(Map<String, long[]> counts, String content, int column) {
+        long[] row = counts.get(content);
+        return row != null ? row[column] : 0L;
+    }
+
+    private record Snapshot(Map<String, Object> stats, long loadedAtNanos) {
+    }
+}
@@ -6,7 +6,6 @@ import com.teckiz.entity.Module;
 import com.teckiz.entity.PasswordSecrecy;
 import com.teckiz.exception.HostNotFoundException;
 import com.teckiz.repository.CompanyModuleMapperRepository;
-import com.teckiz.repository.ModuleRepository;
 import com.teckiz.repository.PasswordSecrecyRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -26,8 +25,9 @@ import java.util.Optional;
 public class WebsiteManager {
 
     private final CompanyModuleMapperRepository companyModuleMapperRepository;
-    private final ModuleRepository moduleRepository;
+    private final ModuleRegistry moduleRegistry;
     private final PasswordSecrecyRepository passwordSecrecyRepository;
+    private final TenantResolutionCache tenantResolutionCache;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -69,74 +69,111 @@ public class WebsiteManager {
      * @return CompanyModuleMapper if valid, throws HostNotFoundException otherwise
      */
     public CompanyModuleMapper checkAuthentication() {
-        String host = getHost();
-
-        Optional<CompanyModuleMapper> mapperOpt = companyModuleMapperRepository
-                .findByHostAndArchivedFalseAndLiveTrue(host);
+        TenantContext tenant = checkTenantContext();
+        return entityManager.getReference(CompanyModuleMapper.class, tenant.companyModuleMapperId());
+    }
 
-        if (mapperOpt.isEmpty()) {
-            throw new HostNotFoundException();
-        }
+    /**
+     * Check authentication by host only, without requiring an active company
+     * @return CompanyModuleMapper if the host is live, throws HostNotFoundException otherwise
+     */
+    public CompanyModuleMapper checkHostAuthentication() {
+        TenantContext tenant = getTenantContext();
+        return entityManager.getReference(CompanyModuleMapper.class, tenant.companyModuleMapperId());
+    }
 
-        CompanyModuleMapper companyModuleMapper = mapperOpt.get();
-        Company company = companyModuleMapper.getCompany();
+    /**
+     * Check authentication by host and return the tenant of an active company
+     * @return TenantContext if valid, throws HostNotFoundException otherwise
+     */
+    public TenantContext checkTenantContext() {
+        TenantContext tenant = getTenantContext();
 
-        if (company == null || !Boolean.TRUE.equals(company.getActive())) {
+        if (tenant.companyId() == null || !tenant.companyActive()) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
                     "Your company is not active"
             );
         }
 
-        return companyModuleMapper;
+        return tenant;
     }
 
     /**
-     * Check authentication for RJ Indexing module
+     * Get the tenant for the current request, resolving it only once per request
+     * @return TenantContext if the host is live, throws HostNotFoundException otherwise
      */
-    public CompanyModuleMapper websiteRJIndexingAuthentication() {
-        String host = getHost();
-
-        Optional<CompanyModuleMapper> mapperOpt = companyModuleMapperRepository
-                .findByHostAndArchivedFalseAndLiveTrue(host);
-
-        if (mapperOpt.isEmpty()) {
-            throw new HostNotFoundException();
+    public TenantContext getTenantContext() {
+        TenantContext tenant = TenantContextHolder.get();
+        if (tenant != null) {
+            return tenant;
         }
 
-        CompanyModuleMapper companyModuleMapper = mapperOpt.get();
-        Company company = companyModuleMapper.getCompany();
+        TenantResolutionCache.TenantSnapshot snapshot = resolveTenant(getHost());
+        tenant = new TenantContext(
+                snapshot.host(),
+                snapshot.mapperId(),
+                snapshot.moduleMapperKey(),
+                snapshot.companyId(),
+                snapshot.moduleId(),
+                moduleRegistry.findById(snapshot.moduleId()).map(Module::getType).orElse(null),
+                snapshot.companyActive()
+        );
+        TenantContextHolder.set(tenant);
+        return tenant;
+    }
 
-        if (company == null || !Boolean.TRUE.equals(company.getActive())) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Your company is not active"
-            );
-        }
+    /**
+     * Get a Company reference for the tenant without loading it
+     */
+    public Company getCompanyReference(TenantContext tenant) {
+        return entityManager.getReference(Company.class, tenant.companyId());
+    }
 
-        Optional<Module> journalIndexModuleOpt = moduleRepository.findAll().stream()
-                .filter(m -> Module.JOURNAL_INDEX.equals(m.getType()))
-                .findFirst();
+    /**
+     * Get a CompanyModuleMapper reference for the tenant without loading it
+     */
+    public CompanyModuleMapper getModuleMapperReference(TenantContext tenant) {
+        return entityManager.getReference(CompanyModuleMapper.class, tenant.companyModuleMapperId());
+    }
 
-        if (journalIndexModuleOpt.isEmpty()) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Module not found"
-            );
+    /**
+     * Resolve the live module mapper snapshot for a host, loading it on a cache miss
+     * @return TenantSnapshot if found, throws HostNotFoundException otherwise
+     */
+    private TenantResolutionCache.TenantSnapshot resolveTenant(String host) {
+        if (host == null) {
+            throw new HostNotFoundException();
         }
 
-        Module journalIndexModule = journalIndexModuleOpt.get();
-        Optional<CompanyModuleMapper> journalModuleMapperOpt = companyModuleMapperRepository
-                .findByCompanyAndModuleAndArchivedFalse(company, journalIndexModule);
-
-        if (journalModuleMapperOpt.isEmpty()) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Your company is not registered for research journal indexing module"
-            );
-        }
+        return tenantResolutionCache.get(host).orElseGet(() -> {
+            CompanyModuleMapper companyModuleMapper = companyModuleMapperRepository
+                    .findByHostAndArchivedFalseAndLiveTrue(host)
+                    .orElseThrow(HostNotFoundException::new);
+            return tenantResolutionCache.put(host, companyModuleMapper);
+        });
+    }
 
-        return journalModuleMapperOpt.get();
+    /**
+     * Check authentication for RJ Indexing module
+     */
+    public CompanyModuleMapper websiteRJIndexingAuthentication() {
+        TenantContext tenant = checkTenantContext();
+
+        Module journalIndexModule = moduleRegistry.findByType(Module.JOURNAL_INDEX)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Module not found"
+                ));
+
+        Long journalModuleMapperId = moduleRegistry
+                .findCompanyModuleMapperId(tenant.companyId(), journalIndexModule.getId())
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Your company is not registered for research journal indexing module"
+                ));
+
+        return entityManager.getReference(CompanyModuleMapper.class, journalModuleMapperId);
     }
 
     /**
@@ -174,48 +211,29 @@ public class WebsiteManager {
      * Check journal authentication
      */
     public CompanyModuleMapper checkJournalAuthentication() {
-        String host = getHost();
-
-        Optional<CompanyModuleMapper> mapperOpt = companyModuleMapperRepository
-                .findByHostAndArchivedFalseAndLiveTrue(host);
+        TenantContext tenant = getTenantContext();
 
-        if (mapperOpt.isEmpty()) {
-            throw new HostNotFoundException();
-        }
-
-        CompanyModuleMapper companyModuleMapper = mapperOpt.get();
-        Company company = companyModuleMapper.getCompany();
-
-        if (company == null) {
+        if (tenant.companyId() == null) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
                     "Company not found"
             );
         }
 
-        Optional<Module> journalModuleOpt = moduleRepository.findAll().stream()
-                .filter(m -> Module.JOURNAL.equals(m.getName()))
-                .findFirst();
-
-        if (journalModuleOpt.isEmpty()) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Module not found"
-            );
-        }
-
-        Module journalModule = journalModuleOpt.get();
-        Optional<CompanyModuleMapper> journalModuleMapperOpt = companyModuleMapperRepository
-                .findByCompanyAndModuleAndArchivedFalse(company, journalModule);
+        Module journalModule = moduleRegistry.findByName(Module.JOURNAL)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Module not found"
+                ));
 
-        if (journalModuleMapperOpt.isEmpty()) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Your company is not registered for research journal module"
-            );
-        }
+        Long journalModuleMapperId = moduleRegistry
+                .findCompanyModuleMapperId(tenant.companyId(), journalModule.getId())
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Your company is not registered for research journal module"
+                ));
 
-        return journalModuleMapperOpt.get();
+        return entityManager.getReference(CompanyModuleMapper.class, journalModuleMapperId);
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.teckiz.util;
+
+import com.teckiz.dto.ContentVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+
+/**
+ * Conditional GET support for detail endpoints whose response is built from a row and the rows
+ * embedded in it. The weak ETag and Last-Modified come from the row's id and the latest updatedAt
+ * among them, so a matching If-None-Match or If-Modified-Since is answered with 304 before the
+ * row is loaded.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Set ETag and Last-Modified on the response; true when the client's copy is current and
+     * the handler should return null to send 304 Not Modified
+     */
+    public static boolean checkNotModified(WebRequest request, String type, ContentVersion version) {
+        long lastModified = version.updatedAt() != null
+                ? version.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        String etag = "W/\"" + type + "-" + version.id() + "-" + Math.max(lastModified, 0) + "\"";
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,39 @@
+package com.teckiz.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor for feeds ordered by (publishedAt DESC, id DESC).
+ * publishedAt is null once a feed has reached its undated rows, which MySQL sorts last.
+ */
+public record FeedCursor(LocalDateTime publishedAt, Long id) {
+
+    private static final String UNDATED = "-";
+
+    public String encode() {
+        String raw = (publishedAt != null ? publishedAt.toString() : UNDATED) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a blank cursor requesting the first page
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String publishedAt = raw.substring(0, separator);
+            return new FeedCursor(
+                    UNDATED.equals(publishedAt) ? null : LocalDateTime.parse(publishedAt),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.teckiz.util;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One keyset page of a feed plus the cursor of the following page (null on the last page).
+ */
+public record FeedPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Number of rows to fetch for a page: one extra row tells whether another page follows
+     */
+    public static int fetchSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE) + 1;
+    }
+
+    /**
+     * Build the page from rows fetched with {@link #fetchSize(int)}
+     */
+    public static <T> FeedPage<T> of(List<T> fetched, int size,
+                                     Function<T, LocalDateTime> publishedAt, Function<T, Long> id) {
+        int limit = fetchSize(size) - 1;
+        if (fetched.size() <= limit) {
+            return new FeedPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new FeedPage<>(items, new FeedCursor(publishedAt.apply(last), id.apply(last)).encode());
+    }
+}
@@ -0,0 +1,108 @@
+package com.teckiz.util;
+
+/**
+ * Per-thread tally of the SQL work Hibernate does: statements prepared, time spent executing
+ * them and entities loaded. Nothing is counted outside {@link #start()}/{@link #stop()} or
+ * {@link #measure(Runnable)}; the Hibernate hooks are registered in HibernateStatisticsConfig.
+ * JdbcTemplate statements bypass Hibernate and are not counted.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private static final Snapshot EMPTY = new Snapshot(0, 0, 0);
+
+    private SqlStatementCounter() {
+    }
+
+    public record Snapshot(long statements, long jdbcNanos, long entitiesLoaded) {
+    }
+
+    /**
+     * Start counting on the current thread, discarding any previous tally
+     */
+    public static void start() {
+        CURRENT.set(new Tally());
+    }
+
+    /**
+     * Stop counting on the current thread and return what was counted since {@link #start()}
+     */
+    public static Snapshot stop() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally != null ? tally.snapshot() : EMPTY;
+    }
+
+    /**
+     * Run work on the current thread and return the SQL it caused. Counts are also added to an
+     * enclosing tally, so this can be nested inside a request.
+     */
+    public static Snapshot measure(Runnable work) {
+        Tally enclosing = CURRENT.get();
+        Tally tally = new Tally();
+        CURRENT.set(tally);
+        try {
+            work.run();
+        } finally {
+            if (enclosing == null) {
+                CURRENT.remove();
+            } else {
+                enclosing.add(tally);
+                CURRENT.set(enclosing);
+            }
+        }
+        return tally.snapshot();
+    }
+
+    /**
+     * Add counts measured on another thread, e.g. by work fanned out from a request, to the
+     * current thread's tally
+     */
+    public static void add(Snapshot snapshot) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.statements += snapshot.statements();
+            tally.jdbcNanos += snapshot.jdbcNanos();
+            tally.entitiesLoaded += snapshot.entitiesLoaded();
+        }
+    }
+
+    public static void recordStatement() {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.statements++;
+        }
+    }
+
+    public static void recordExecution(long nanos) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.jdbcNanos += nanos;
+        }
+    }
+
+    public static void recordEntityLoad() {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.entitiesLoaded++;
+        }
+    }
+
+    // Only touched by its own thread
+    private static final class Tally {
+        private long statements;
+        private long jdbcNanos;
+        private long entitiesLoaded;
+
+        private void add(Tally other) {
+            statements += other.statements;
+            jdbcNanos += other.jdbcNanos;
+            entitiesLoaded += other.entitiesLoaded;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(statements, jdbcNanos, entitiesLoaded);
+        }
+    }
+}
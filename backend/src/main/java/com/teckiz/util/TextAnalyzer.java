@@ -0,0 +1,339 @@
+package com.teckiz.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer for the article search index: lowercases, strips accents, splits on
+ * non-alphanumerics, drops English stop words and reduces terms with the Porter stemmer.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "if", "in", "into",
+            "is", "it", "its", "no", "not", "of", "on", "or", "such", "that", "the", "their", "then",
+            "there", "these", "they", "this", "to", "was", "were", "will", "with");
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Analyze text into stemmed terms, in order; stop words are dropped but keep their position
+     * so phrase matching stays aligned. Positions of the returned terms are reported to the consumer.
+     */
+    public static void analyze(String text, TermConsumer consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+
+        int position = 0;
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean tokenChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                String token = normalized.substring(start, Math.min(i, start + MAX_TERM_LENGTH));
+                if (!STOP_WORDS.contains(token)) {
+                    consumer.accept(stem(token), position);
+                }
+                position++;
+                start = -1;
+            }
+        }
+    }
+
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        analyze(text, (term, position) -> terms.add(term));
+        return terms;
+    }
+
+    @FunctionalInterface
+    public interface TermConsumer {
+        void accept(String term, int position);
+    }
+
+    /**
+     * Porter (1980) suffix stripping; tokens that are not purely alphabetic are returned unchanged
+     */
+    static String stem(String word) {
+        if (word.length() <= 2) {
+            return word;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return word;
+            }
+        }
+        return new PorterStemmer(word).stem();
+    }
+
+    private static final class PorterStemmer {
+
+        private final char[] b;
+        private int k;
+        private int j;
+
+        PorterStemmer(String word) {
+            this.b = word.toCharArray();
+            this.k = b.length - 1;
+        }
+
+        String stem() {
+            step1ab();
+            step1c();
+            step2();
+            step3();
+            step4();
+            step5();
+            return new String(b, 0, k + 1);
+        }
+
+        private boolean cons(int i) {
+            switch (b[i]) {
+                case 'a', 'e', 'i', 'o', 'u':
+                    return false;
+                case 'y':
+                    return i == 0 || !cons(i - 1);
+                default:
+                    return true;
+            }
+        }
+
+        // Number of consonant-vowel sequences between 0 and j
+        private int m() {
+            int n = 0;
+            int i = 0;
+            while (true) {
+                if (i > j) {
+                    return n;
+                }
+                if (!cons(i)) {
+                    break;
+                }
+                i++;
+            }
+            i++;
+            while (true) {
+                while (true) {
+                    if (i > j) {
+                        return n;
+                    }
+                    if (cons(i)) {
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                n++;
+                while (true) {
+                    if (i > j) {
+                        return n;
+                    }
+                    if (!cons(i)) {
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+            }
+        }
+
+        private boolean vowelInStem() {
+            for (int i = 0; i <= j; i++) {
+                if (!cons(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean doubleC(int i) {
+            return i >= 1 && b[i] == b[i - 1] && cons(i);
+        }
+
+        private boolean cvc(int i) {
+            if (i < 2 || !cons(i) || cons(i - 1) || !cons(i - 2)) {
+                return false;
+            }
+            char c = b[i];
+            return c != 'w' && c != 'x' && c != 'y';
+        }
+
+        private boolean ends(String s) {
+            int length = s.length();
+            int offset = k - length + 1;
+            if (offset < 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (b[offset + i] != s.charAt(i)) {
+                    return false;
+                }
+            }
+            j = k - length;
+            return true;
+        }
+
+        private void setTo(String s) {
+            int length = s.length();
+            int offset = j + 1;
+            for (int i = 0; i < length; i++) {
+                b[offset + i] = s.charAt(i);
+            }
+            k = j + length;
+        }
+
+        private void r(String s) {
+            if (m() > 0) {
+                setTo(s);
+            }
+        }
+
+        private void step1ab() {
+            if (b[k] == 's') {
+                if (ends("sses")) {
+                    k -= 2;
+                } else if (ends("ies")) {
+                    setTo("i");
+                } else if (b[k - 1] != 's') {
+                    k--;
+                }
+            }
+            if (ends("eed")) {
+                if (m() > 0) {
+                    k--;
+                }
+            } else if ((ends("ed") || ends("ing")) && vowelInStem()) {
+                k = j;
+                if (ends("at")) {
+                    setTo("ate");
+                } else if (ends("bl")) {
+                    setTo("ble");
+                } else if (ends("iz")) {
+                    setTo("ize");
+                } else if (doubleC(k)) {
+                    k--;
+                    char c = b[k];
+                    if (c == 'l' || c == 's' || c == 'z') {
+                        k++;
+                    }
+                } else if (m() == 1 && cvc(k)) {
+                    setTo("e");
+                }
+            }
+        }
+
+        private void step1c() {
+            if (ends("y") && vowelInStem()) {
+                b[k] = 'i';
+            }
+        }
+
+        private void step2() {
+            if (k == 0) {
+                return;
+            }
+            switch (b[k - 1]) {
+                case 'a' -> {
+                    if (ends("ational")) { r("ate"); } else if (ends("tional")) { r("tion"); }
+                }
+                case 'c' -> {
+                    if (ends("enci")) { r("ence"); } else if (ends("anci")) { r("ance"); }
+                }
+                case 'e' -> {
+                    if (ends("izer")) { r("ize"); }
+                }
+                case 'l' -> {
+                    if (ends("bli")) { r("ble"); } else if (ends("alli")) { r("al"); }
+                    else if (ends("entli")) { r("ent"); } else if (ends("eli")) { r("e"); }
+                    else if (ends("ousli")) { r("ous"); }
+                }
+                case 'o' -> {
+                    if (ends("ization")) { r("ize"); } else if (ends("ation")) { r("ate"); }
+                    else if (ends("ator")) { r("ate"); }
+                }
+                case 's' -> {
+                    if (ends("alism")) { r("al"); } else if (ends("iveness")) { r("ive"); }
+                    else if (ends("fulness")) { r("ful"); } else if (ends("ousness")) { r("ous"); }
+                }
+                case 't' -> {
+                    if (ends("aliti")) { r("al"); } else if (ends("iviti")) { r("ive"); }
+                    else if (ends("biliti")) { r("ble"); }
+                }
+                case 'g' -> {
+                    if (ends("logi")) { r("log"); }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void step3() {
+            switch (b[k]) {
+                case 'e' -> {
+                    if (ends("icate")) { r("ic"); } else if (ends("ative")) { r(""); }
+                    else if (ends("alize")) { r("al"); }
+                }
+                case 'i' -> {
+                    if (ends("iciti")) { r("ic"); }
+                }
+                case 'l' -> {
+                    if (ends("ical")) { r("ic"); } else if (ends("ful")) { r(""); }
+                }
+                case 's' -> {
+                    if (ends("ness")) { r(""); }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void step4() {
+            if (k == 0) {
+                return;
+            }
+            boolean matched = switch (b[k - 1]) {
+                case 'a' -> ends("al");
+                case 'c' -> ends("ance") || ends("ence");
+                case 'e' -> ends("er");
+                case 'i' -> ends("ic");
+                case 'l' -> ends("able") || ends("ible");
+                case 'n' -> ends("ant") || ends("ement") || ends("ment") || ends("ent");
+                case 'o' -> (ends("ion") && j >= 0 && (b[j] == 's' || b[j] == 't')) || ends("ou");
+                case 's' -> ends("ism");
+                case 't' -> ends("ate") || ends("iti");
+                case 'u' -> ends("ous");
+                case 'v' -> ends("ive");
+                case 'z' -> ends("ize");
+                default -> false;
+            };
+            if (matched && m() > 1) {
+                k = j;
+            }
+        }
+
+        private void step5() {
+            j = k;
+            if (b[k] == 'e') {
+                int a = m();
+                if (a > 1 || (a == 1 && !cvc(k - 1))) {
+                    k--;
+                }
+            }
+            if (b[k] == 'l' && doubleC(k) && m() > 1) {
+                k--;
+            }
+        }
+    }
+}
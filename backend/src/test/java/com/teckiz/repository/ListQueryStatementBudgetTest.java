@@ -0,0 +1,126 @@
+package com.teckiz.repository;
+
+import com.teckiz.config.HibernateStatisticsConfig;
+import com.teckiz.dto.WebNewsSummary;
+import com.teckiz.entity.Company;
+import com.teckiz.entity.ResearchArticle;
+import com.teckiz.entity.WebNews;
+import com.teckiz.entity.WebNewsType;
+import com.teckiz.entity.WebRelatedMedia;
+import com.teckiz.util.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.teckiz.util.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of statements of the list queries that replaced per-row loading, so an
+ * association touched per row shows up as a failing budget rather than in production
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:teckiz;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HibernateStatisticsConfig.class)
+class ListQueryStatementBudgetTest {
+
+    private static final int ROWS = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WebNewsRepository webNewsRepository;
+
+    @Autowired
+    private ResearchArticleRepository researchArticleRepository;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = entityManager.persist(Company.builder()
+                .name("Budget Test")
+                .slug("budget-test")
+                .build());
+        WebNewsType type = entityManager.persist(WebNewsType.builder()
+                .name("Announcements")
+                .company(company)
+                .build());
+
+        for (int i = 0; i < ROWS; i++) {
+            WebRelatedMedia poster = entityManager.persist(WebRelatedMedia.builder()
+                    .location("/uploads/poster-" + i + ".jpg")
+                    .company(company)
+                    .build());
+            entityManager.persist(WebNews.builder()
+                    .title("News " + i)
+                    .slug("news-" + i)
+                    .published(true)
+                    .publishedAt(LocalDateTime.now().minusDays(i + 1))
+                    .poster(poster)
+                    .webNewsType(type)
+                    .company(company)
+                    .build());
+            entityManager.persist(ResearchArticle.builder()
+                    .title("Article " + i)
+                    .status(i % 2 == 0 ? ResearchArticle.SUBMITTED : ResearchArticle.APPROVED)
+                    .company(company)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void publicNewsPageIsOneSelectAndOneCount() {
+        AtomicReference<Page<WebNewsSummary>> page = new AtomicReference<>();
+
+        SqlStatementCounter.Snapshot snapshot = assertMaxStatements(2, () ->
+                page.set(webNewsRepository.findPublishedNews(company, LocalDateTime.now(), PageRequest.of(0, 5))));
+
+        assertThat(page.get().getContent()).hasSize(5)
+                .allSatisfy(news -> {
+                    assertThat(news.thumbnail()).isNotNull();
+                    assertThat(news.newsType()).isNotNull();
+                });
+        assertThat(page.get().getTotalElements()).isEqualTo(ROWS);
+        assertThat(snapshot.entitiesLoaded()).isZero();
+    }
+
+    @Test
+    void adminArticleListingIsFilteredAndPagedInTheDatabase() {
+        Specification<ResearchArticle> filters = Specification
+                .where(ResearchArticleSpecifications.belongsTo(company))
+                .and(ResearchArticleSpecifications.hasStatus(ResearchArticle.SUBMITTED))
+                .and(ResearchArticleSpecifications.titleContains("Article"));
+        AtomicReference<Page<ResearchArticle>> page = new AtomicReference<>();
+
+        SqlStatementCounter.Snapshot snapshot = assertMaxStatements(2, () ->
+                page.set(researchArticleRepository.findAll(filters,
+                        PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "createdAt")))));
+
+        assertThat(page.get().getContent()).hasSize(4)
+                .allSatisfy(article -> assertThat(article.getStatus()).isEqualTo(ResearchArticle.SUBMITTED));
+        assertThat(page.get().getTotalElements()).isEqualTo(ROWS / 2);
+        assertThat(snapshot.entitiesLoaded()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,22 @@
+package com.teckiz.util;
+
+/**
+ * Statement budgets for tests, guarding against N+1 regressions
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Run work and fail when it prepares more than the given number of statements
+     */
+    public static SqlStatementCounter.Snapshot assertMaxStatements(long maxStatements, Runnable work) {
+        SqlStatementCounter.Snapshot snapshot = SqlStatementCounter.measure(work);
+        if (snapshot.statements() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but "
+                    + snapshot.statements() + " were executed (" + snapshot.entitiesLoaded() + " entities loaded)");
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,14 @@
+-- Convert ResearchArticle view/download/visit counters from VARCHAR(50) to numeric columns
+-- so ResearchArticleCounterService can flush them with atomic "column = column + ?" updates.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+UPDATE ResearchArticle SET views = '0' WHERE views IS NULL OR views NOT REGEXP '^[0-9]+$';
+UPDATE ResearchArticle SET downloads = '0' WHERE downloads IS NULL OR downloads NOT REGEXP '^[0-9]+$';
+UPDATE ResearchArticle SET visits = '0' WHERE visits IS NULL OR visits NOT REGEXP '^[0-9]+$';
+
+ALTER TABLE ResearchArticle
+    MODIFY views BIGINT NOT NULL DEFAULT 0,
+    MODIFY downloads BIGINT NOT NULL DEFAULT 0,
+    MODIFY visits BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Track thumbnail derivatives generated in the background by ImageDerivativeService.
+-- derivative_status is NULL for non-image media, otherwise pending, processing, ready or failed.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+ALTER TABLE WebRelatedMedia
+    ADD COLUMN derivative_status VARCHAR(20) NULL,
+    ADD COLUMN thumbnail_small TEXT NULL,
+    ADD COLUMN thumbnail_medium TEXT NULL,
+    ADD COLUMN thumbnail_large TEXT NULL;
+
+ALTER TABLE ResearchRelatedMedia
+    ADD COLUMN derivative_status VARCHAR(20) NULL,
+    ADD COLUMN thumbnail_small TEXT NULL,
+    ADD COLUMN thumbnail_medium TEXT NULL,
+    ADD COLUMN thumbnail_large TEXT NULL;
@@ -0,0 +1,16 @@
+-- Serialized trending (top-K) windows written periodically by TrendingTracker and reloaded
+-- on startup, one row per company and stat type.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+CREATE TABLE IF NOT EXISTS StatisticsTrendingSnapshot (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    company_id BIGINT NOT NULL,
+    stat_type VARCHAR(100) NOT NULL,
+    payload LONGBLOB NOT NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY statistics_trending_snapshot_unique (company_id, stat_type),
+    CONSTRAINT fk_statistics_trending_snapshot_company FOREIGN KEY (company_id) REFERENCES Company (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
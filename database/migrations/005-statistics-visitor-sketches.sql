@@ -0,0 +1,18 @@
+-- Daily HyperLogLog sketches of unique visitors maintained by UniqueVisitorService.
+-- Site-wide visitors use entity_type '' and entity_id 0 so the unique key can be used for upserts.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+CREATE TABLE IF NOT EXISTS StatisticsVisitorSketch (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    company_id BIGINT NOT NULL,
+    entity_type VARCHAR(100) NOT NULL DEFAULT '',
+    entity_id BIGINT NOT NULL DEFAULT 0,
+    bucket_date DATE NOT NULL,
+    sketch VARBINARY(4096) NOT NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY statistics_visitor_sketch_unique (company_id, entity_type, entity_id, bucket_date),
+    CONSTRAINT fk_statistics_visitor_sketch_company FOREIGN KEY (company_id) REFERENCES Company (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,11 @@
+-- Last-change timestamps of rows embedded in public detail responses, so the ETag and
+-- Last-Modified of a news item change when its type or its poster media row is edited.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+ALTER TABLE WebNewsType
+    ADD COLUMN updated_at DATETIME(6) NULL;
+
+ALTER TABLE WebRelatedMedia
+    ADD COLUMN updated_at DATETIME(6) NULL;
@@ -0,0 +1,25 @@
+-- Indexes declared on the entities for the database-side list filters and keyset feeds.
+-- JPA_DDL_AUTO=validate does not create indexes, so without this script those queries scan.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+-- Superadmin invoice and notification request lists
+CREATE INDEX company_invoice_status_due_index ON CompanyInvoice (status, due_date);
+CREATE INDEX company_invoice_company_created_index ON CompanyInvoice (company_id, created_at);
+CREATE INDEX notification_request_status_scheduled_index ON NotificationRequest (status, scheduled_for);
+CREATE INDEX notification_request_company_created_index ON NotificationRequest (company_id, created_at);
+
+-- Admin research article listing, filtered by status, type or volume and ordered by creation
+CREATE INDEX research_article_company_created_index ON ResearchArticle (company_id, created_at);
+CREATE INDEX research_article_company_status_created_index ON ResearchArticle (company_id, status, created_at);
+CREATE INDEX research_article_company_type_created_index ON ResearchArticle (company_id, research_article_type_id, created_at);
+CREATE INDEX research_article_company_volume_created_index ON ResearchArticle (company_id, research_journal_volume_id, created_at);
+
+-- Keyset pages of the public news, article and index journal feeds
+CREATE INDEX web_news_feed_index ON WebNews (company_id, is_published, is_archived, published_at, id);
+CREATE INDEX research_article_feed_index ON ResearchArticle (company_id, is_published, published_at, id);
+CREATE INDEX index_journal_article_feed_index ON IndexJournalArticle (index_journal_id, is_published, is_archived, published_at, id);
+
+-- Per-tenant statistics by type and date
+CREATE INDEX statistics_company_type_date_index ON Statistics (company_id, stat_type, recorded_at);
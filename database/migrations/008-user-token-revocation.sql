@@ -0,0 +1,8 @@
+-- Instant before which a user's JWTs are rejected, set when their roles or company access change.
+-- Kept on the user row so revocations survive restarts and apply on every backend instance.
+-- Run once against existing databases before deploying with JPA_DDL_AUTO=validate.
+
+USE teckiz;
+
+ALTER TABLE User
+    ADD COLUMN tokens_valid_after DATETIME(6) NULL;